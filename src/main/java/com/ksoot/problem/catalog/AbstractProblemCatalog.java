@@ -0,0 +1,111 @@
+package com.ksoot.problem.catalog;
+
+import com.ksoot.problem.core.MessageResolution;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class for {@link ProblemCatalog}s generated by {@link ProblemCatalogProcessor}. Generated
+ * catalogs provide the message patterns and a switch-based lookup of pattern index by bundle locale
+ * and message code. Locales are resolved similar to {@link java.util.ResourceBundle}, i.e. by
+ * looking up the bundles for requested locale, its parent locales, the system locale if no bundle
+ * is found for requested locale, and finally the base bundle.
+ *
+ * <p>Patterns without arguments are returned as is, while the ones with arguments are formatted
+ * using {@link MessageFormat}, parsed once per pattern and locale.
+ *
+ * @author Rajveer Singh
+ */
+public abstract class AbstractProblemCatalog implements ProblemCatalog {
+
+  /** Bundle locale of base bundles. */
+  protected static final String ROOT = "";
+
+  private static final int MAX_CACHED_LOCALES = 256;
+
+  private final String[] patterns;
+
+  private final Set<String> bundleLocales;
+
+  private final Map<Locale, String[]> localeChains = new ConcurrentHashMap<>();
+
+  private final Map<Locale, AtomicReferenceArray<MessageFormat>> messageFormats =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new catalog.
+   *
+   * @param patterns the message patterns, indexed as per {@link #indexOf(String, String)}
+   * @param bundleLocales the locales of compiled bundles, {@link #ROOT} for base bundles
+   */
+  protected AbstractProblemCatalog(final String[] patterns, final String... bundleLocales) {
+    this.patterns = patterns;
+    this.bundleLocales = Set.of(bundleLocales);
+  }
+
+  /**
+   * Returns the index of message pattern for given code in the bundle of given locale.
+   *
+   * @param bundleLocale the bundle locale, e.g. {@code fr_FR} or {@link #ROOT}
+   * @param code the message code
+   * @return the index of message pattern, or {@code -1} if not found
+   */
+  protected abstract int indexOf(final String bundleLocale, final String code);
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable String getMessage(
+      final String code, @Nullable final Object[] args, final Locale locale) {
+    for (final String bundleLocale : localeChain(locale)) {
+      final int index = indexOf(bundleLocale, code);
+      if (index >= 0) {
+        return ArrayUtils.isEmpty(args) ? this.patterns[index] : format(index, args, locale);
+      }
+    }
+    return null;
+  }
+
+  private String format(final int index, final Object[] args, final Locale locale) {
+    final AtomicReferenceArray<MessageFormat> formats =
+        cached(
+            this.messageFormats, locale, key -> new AtomicReferenceArray<>(this.patterns.length));
+    MessageFormat format = formats.get(index);
+    if (format == null) {
+      format = new MessageFormat(this.patterns[index], locale);
+      formats.set(index, format);
+    }
+    // MessageFormat is not thread safe
+    return ((MessageFormat) format.clone()).format(args);
+  }
+
+  private String[] localeChain(final Locale locale) {
+    return cached(this.localeChains, locale, this::resolveLocaleChain);
+  }
+
+  private String[] resolveLocaleChain(final Locale locale) {
+    return MessageResolution.candidateLocales(
+            locale, candidate -> this.bundleLocales.contains(candidate.toString()))
+        .stream()
+        .map(Locale::toString)
+        .toArray(String[]::new);
+  }
+
+  // Do not let arbitrary locales coming from requests grow the caches unbounded
+  private static <V> V cached(
+      final Map<Locale, V> cache, final Locale locale, final Function<Locale, V> mappingFunction) {
+    final V value = cache.get(locale);
+    if (value != null) {
+      return value;
+    }
+    return cache.size() < MAX_CACHED_LOCALES
+        ? cache.computeIfAbsent(locale, mappingFunction)
+        : mappingFunction.apply(locale);
+  }
+}
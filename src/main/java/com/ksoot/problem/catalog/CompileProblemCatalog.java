@@ -0,0 +1,44 @@
+package com.ksoot.problem.catalog;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type for which {@link ProblemCatalogProcessor} compiles the problem message bundles into
+ * a generated {@link ProblemCatalog}, named as the annotated type suffixed with {@code
+ * ProblemCatalog} in the same package. The generated catalog is registered as a {@link
+ * java.util.ServiceLoader} provider, so it is picked up by {@link
+ * com.ksoot.problem.spring.config.ProblemMessageProvider} at runtime.
+ *
+ * <p>Bundles are read from the compilation class output, source path or class path, so the message
+ * bundles of the application should be processed as resources before compilation, which is the
+ * default in Maven and Gradle builds. Malformed patterns of messages having arguments, blank codes
+ * and invalid status codes fail the compilation. Messages without arguments are taken as is, so
+ * these may have literal braces.
+ *
+ * @author Rajveer Singh
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompileProblemCatalog {
+
+  /**
+   * Basenames of message bundles to be compiled, in order of precedence. Should be same as {@code
+   * spring.messages.basename}.
+   *
+   * @return the basenames of message bundles
+   */
+  String[] basenames() default {"i18n/problems"};
+
+  /**
+   * Locales of message bundles to be compiled in addition to the base bundle, e.g. {@code fr} or
+   * {@code de_DE}.
+   *
+   * @return the locales of message bundles
+   */
+  String[] locales() default {};
+}
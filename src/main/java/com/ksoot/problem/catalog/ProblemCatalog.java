@@ -0,0 +1,26 @@
+package com.ksoot.problem.catalog;
+
+import java.util.Locale;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Catalog of problem messages compiled at build time by {@link ProblemCatalogProcessor}. Catalogs
+ * are discovered using {@link java.util.ServiceLoader} and consulted before the runtime {@link
+ * org.springframework.context.MessageSource}.
+ *
+ * @author Rajveer Singh
+ * @see CompileProblemCatalog
+ */
+public interface ProblemCatalog {
+
+  /**
+   * Resolves the message for the given code and locale.
+   *
+   * @param code the message code
+   * @param args the message arguments, if any
+   * @param locale the locale
+   * @return the formatted message, or {@code null} if not found in this catalog
+   */
+  @Nullable String getMessage(
+      final String code, @Nullable final Object[] args, final Locale locale);
+}
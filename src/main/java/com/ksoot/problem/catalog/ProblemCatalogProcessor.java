@@ -0,0 +1,371 @@
+package com.ksoot.problem.catalog;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor compiling problem message bundles into a {@link ProblemCatalog} for each
+ * type annotated with {@link CompileProblemCatalog}. The generated catalog has switch-based lookups
+ * of message patterns per bundle locale, so no bundles are loaded or parsed at runtime.
+ *
+ * <p>It is not registered as a service provider, so it must be configured explicitly as an
+ * annotation processor of the application build, along with other processors such as Lombok.
+ *
+ * @author Rajveer Singh
+ */
+@SupportedAnnotationTypes("com.ksoot.problem.catalog.CompileProblemCatalog")
+public class ProblemCatalogProcessor extends AbstractProcessor {
+
+  private static final String SERVICE_FILE = "META-INF/services/" + ProblemCatalog.class.getName();
+
+  private static final String PROPERTIES_SUFFIX = ".properties";
+
+  private static final String CATALOG_SUFFIX = "ProblemCatalog";
+
+  // Keeps the generated lookup methods well within the JVM method size limit
+  private static final int MAX_CASES_PER_METHOD = 500;
+
+  // Argument placeholder such as {0} or {1,number}, the messages having none are never formatted
+  private static final Pattern ARGUMENT = Pattern.compile("\\{\\s*\\d");
+
+  private static final JavaFileManager.Location[] BUNDLE_LOCATIONS = {
+    StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH
+  };
+
+  private final Set<String> generatedCatalogs = new LinkedHashSet<>();
+
+  /** {@inheritDoc} */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (final Element element : roundEnv.getElementsAnnotatedWith(CompileProblemCatalog.class)) {
+      compile((TypeElement) element);
+    }
+    if (roundEnv.processingOver() && !this.generatedCatalogs.isEmpty()) {
+      writeServiceFile();
+    }
+    return true;
+  }
+
+  private void compile(final TypeElement type) {
+    final CompileProblemCatalog annotation = type.getAnnotation(CompileProblemCatalog.class);
+    final Set<String> locales = new LinkedHashSet<>();
+    locales.add(AbstractProblemCatalog.ROOT);
+    for (final String locale : annotation.locales()) {
+      locales.add(locale.trim());
+    }
+
+    boolean valid = true;
+    final Map<String, Map<String, String>> bundles = new LinkedHashMap<>();
+    for (final String locale : locales) {
+      final Map<String, String> messages = new TreeMap<>();
+      boolean found = false;
+      for (final String basename : annotation.basenames()) {
+        final String bundleName =
+            stripLeadingSlash(basename.trim())
+                + (locale.isEmpty() ? "" : "_" + locale)
+                + PROPERTIES_SUFFIX;
+        final Properties properties = readBundle(bundleName, type);
+        if (properties != null) {
+          found = true;
+          for (final String key : properties.stringPropertyNames()) {
+            final String value = properties.getProperty(key);
+            // Bundles of basenames specified earlier take precedence
+            if (!messages.containsKey(key)) {
+              valid &= validate(bundleName, key, value, type);
+              messages.put(key, value);
+            }
+          }
+        }
+      }
+      if (!found) {
+        error(type, "No problem message bundle found for locale '%s'", locale);
+        valid = false;
+      }
+      bundles.put(locale, messages);
+    }
+
+    if (valid) {
+      generateCatalog(type, bundles);
+    }
+  }
+
+  private Properties readBundle(final String bundleName, final Element element) {
+    for (final JavaFileManager.Location location : BUNDLE_LOCATIONS) {
+      final FileObject file;
+      try {
+        file = this.processingEnv.getFiler().getResource(location, "", bundleName);
+      } catch (final IOException | IllegalArgumentException e) {
+        // Location not supported by compiler
+        continue;
+      }
+      try (Reader reader = new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8)) {
+        final Properties properties = new Properties();
+        properties.load(reader);
+        return properties;
+      } catch (final IllegalArgumentException e) {
+        error(element, "Malformed problem message bundle %s: %s", bundleName, e.getMessage());
+        return null;
+      } catch (final IOException e) {
+        // Not found at this location
+      }
+    }
+    return null;
+  }
+
+  private boolean validate(
+      final String bundleName, final String key, final String value, final Element element) {
+    try {
+      if (ARGUMENT.matcher(value).find()) {
+        new MessageFormat(value);
+      }
+    } catch (final IllegalArgumentException e) {
+      error(
+          element,
+          "Invalid message pattern for key '%s' in %s: %s",
+          key,
+          bundleName,
+          e.getMessage());
+      return false;
+    }
+    if (key.startsWith("code.") && value.isBlank()) {
+      error(element, "Blank code for key '%s' in %s", key, bundleName);
+      return false;
+    }
+    if (key.startsWith("status.") && !isValidStatus(value)) {
+      error(element, "Invalid HTTP status '%s' for key '%s' in %s", value, key, bundleName);
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean isValidStatus(final String value) {
+    final String status = value.trim();
+    if (status.length() != 3) {
+      return false;
+    }
+    for (int i = 0; i < status.length(); i++) {
+      if (!Character.isDigit(status.charAt(i))) {
+        return false;
+      }
+    }
+    final int code = Integer.parseInt(status);
+    return code >= 100 && code <= 599;
+  }
+
+  private void generateCatalog(
+      final TypeElement type, final Map<String, Map<String, String>> bundles) {
+    final PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+    final String packageName =
+        packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    final String className = type.getSimpleName() + CATALOG_SUFFIX;
+    final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+    // Identical patterns across bundles share the same index
+    final Map<String, Integer> patterns = new LinkedHashMap<>();
+    bundles
+        .values()
+        .forEach(
+            messages ->
+                messages.values().forEach(value -> patterns.putIfAbsent(value, patterns.size())));
+
+    final StringBuilder source = new StringBuilder(4096);
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("import ")
+        .append(AbstractProblemCatalog.class.getName())
+        .append(";\n")
+        .append("import javax.annotation.processing.Generated;\n\n")
+        .append("@Generated(\"")
+        .append(ProblemCatalogProcessor.class.getName())
+        .append("\")\n")
+        .append("public final class ")
+        .append(className)
+        .append(" extends AbstractProblemCatalog {\n\n")
+        .append("  private static final String[] PATTERNS = {\n");
+    patterns
+        .keySet()
+        .forEach(pattern -> source.append("    ").append(literal(pattern)).append(",\n"));
+    source.append("  };\n\n");
+
+    source.append("  public ").append(className).append("() {\n").append("    super(PATTERNS");
+    bundles.keySet().forEach(locale -> source.append(", ").append(literal(locale)));
+    source.append(");\n  }\n\n");
+
+    source
+        .append("  @Override\n")
+        .append("  protected int indexOf(final String bundleLocale, final String code) {\n")
+        .append("    switch (bundleLocale) {\n");
+    int bundleIndex = 0;
+    for (final String locale : bundles.keySet()) {
+      source
+          .append("      case ")
+          .append(literal(locale))
+          .append(":\n")
+          .append("        return bundle")
+          .append(bundleIndex++)
+          .append("(code);\n");
+    }
+    source.append("      default:\n        return -1;\n    }\n  }\n");
+
+    bundleIndex = 0;
+    for (final Map<String, String> messages : bundles.values()) {
+      appendBundleLookup(source, "bundle" + bundleIndex++, messages, patterns);
+    }
+    source.append("}\n");
+
+    try (Writer writer =
+        this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+      this.generatedCatalogs.add(qualifiedName);
+    } catch (final IOException e) {
+      error(type, "Could not generate problem catalog %s: %s", qualifiedName, e.getMessage());
+    }
+  }
+
+  private static void appendBundleLookup(
+      final StringBuilder source,
+      final String methodName,
+      final Map<String, String> messages,
+      final Map<String, Integer> patterns) {
+    final List<List<Map.Entry<String, String>>> chunks = new ArrayList<>();
+    List<Map.Entry<String, String>> chunk = new ArrayList<>(MAX_CASES_PER_METHOD);
+    for (final Map.Entry<String, String> message : messages.entrySet()) {
+      if (chunk.size() == MAX_CASES_PER_METHOD) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(MAX_CASES_PER_METHOD);
+      }
+      chunk.add(message);
+    }
+    chunks.add(chunk);
+
+    source.append("\n  private static int ").append(methodName).append("(final String code) {\n");
+    if (chunks.size() == 1) {
+      appendSwitch(source, chunks.get(0), patterns);
+    } else {
+      source.append("    int index;\n");
+      for (int i = 0; i < chunks.size(); i++) {
+        source
+            .append("    if ((index = ")
+            .append(methodName)
+            .append('_')
+            .append(i)
+            .append("(code)) >= 0) {\n      return index;\n    }\n");
+      }
+      source.append("    return -1;\n");
+    }
+    source.append("  }\n");
+
+    if (chunks.size() > 1) {
+      for (int i = 0; i < chunks.size(); i++) {
+        source
+            .append("\n  private static int ")
+            .append(methodName)
+            .append('_')
+            .append(i)
+            .append("(final String code) {\n");
+        appendSwitch(source, chunks.get(i), patterns);
+        source.append("  }\n");
+      }
+    }
+  }
+
+  private static void appendSwitch(
+      final StringBuilder source,
+      final List<Map.Entry<String, String>> messages,
+      final Map<String, Integer> patterns) {
+    source.append("    switch (code) {\n");
+    for (final Map.Entry<String, String> message : messages) {
+      source
+          .append("      case ")
+          .append(literal(message.getKey()))
+          .append(":\n        return ")
+          .append(patterns.get(message.getValue()))
+          .append(";\n");
+    }
+    source.append("      default:\n        return -1;\n    }\n");
+  }
+
+  private void writeServiceFile() {
+    try (Writer writer =
+        this.processingEnv
+            .getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE)
+            .openWriter()) {
+      for (final String catalog : this.generatedCatalogs) {
+        writer.write(catalog);
+        writer.write('\n');
+      }
+    } catch (final IOException e) {
+      this.processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Could not register problem catalogs in " + SERVICE_FILE + ": " + e.getMessage());
+    }
+  }
+
+  private void error(final Element element, final String message, final Object... args) {
+    this.processingEnv
+        .getMessager()
+        .printMessage(Diagnostic.Kind.ERROR, String.format(message, args), element);
+  }
+
+  private static String stripLeadingSlash(final String basename) {
+    return basename.startsWith("/") ? basename.substring(1) : basename;
+  }
+
+  private static String literal(final String value) {
+    final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      switch (ch) {
+        case '"' -> literal.append("\\\"");
+        case '\\' -> literal.append("\\\\");
+        case '\n' -> literal.append("\\n");
+        case '\r' -> literal.append("\\r");
+        case '\t' -> literal.append("\\t");
+        default -> {
+          if (ch < 0x20 || ch > 0x7e) {
+            literal.append(String.format("\\u%04x", (int) ch));
+          } else {
+            literal.append(ch);
+          }
+        }
+      }
+    }
+    return literal.append('"').toString();
+  }
+}
@@ -5,7 +5,6 @@ import java.io.Serial;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Base class for all {@link ThrowableProblem} implementations that provides basic property support.
@@ -76,11 +75,33 @@ public abstract class AbstractThrowableProblem extends ThrowableProblem {
       final String detail,
       @Nullable final ThrowableProblem cause,
       @Nullable final Map<String, Object> parameters) {
-    super(cause);
+    this(code, title, detail, cause, parameters, true);
+  }
+
+  /**
+   * Constructs a new abstract throwable problem with the given properties, capturing the stack
+   * trace only if asked to.
+   *
+   * @param code the problem code
+   * @param title the problem title
+   * @param detail the problem detail
+   * @param cause the problem cause
+   * @param parameters additional parameters
+   * @param stackTrace whether to capture the stack trace
+   */
+  protected AbstractThrowableProblem(
+      final String code,
+      final String title,
+      final String detail,
+      @Nullable final ThrowableProblem cause,
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackTrace) {
+    super(cause, stackTrace);
     this.code = code;
     this.title = title;
     this.detail = detail;
-    this.parameters = Optional.ofNullable(parameters).orElseGet(LinkedHashMap::new);
+    // Mutable only if created by Jackson, which sets the parameters afterwards
+    this.parameters = parameters != null ? ParameterMap.copyOf(parameters) : new LinkedHashMap<>();
   }
 
   /** {@inheritDoc} */
@@ -104,7 +125,9 @@ public abstract class AbstractThrowableProblem extends ThrowableProblem {
   /** {@inheritDoc} */
   @Override
   public Map<String, Object> getParameters() {
-    return Collections.unmodifiableMap(this.parameters);
+    return this.parameters instanceof ParameterMap
+        ? this.parameters
+        : Collections.unmodifiableMap(this.parameters);
   }
 
   /**
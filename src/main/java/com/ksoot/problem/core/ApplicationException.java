@@ -2,6 +2,7 @@ package com.ksoot.problem.core;
 
 import jakarta.annotation.Nullable;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
@@ -23,10 +24,13 @@ public final class ApplicationException extends Exception implements ProblemSupp
 
   private final Problem problem;
 
+  // Rendered only when first asked for, as it is rarely needed and costly to render
+  @Getter(AccessLevel.NONE)
+  private String message;
+
   /**
    * Constructs a new application exception.
    *
-   * @param message the message
    * @param status the HTTP status
    * @param problem the problem
    * @param errorKey the error key
@@ -34,17 +38,19 @@ public final class ApplicationException extends Exception implements ProblemSupp
    * @param detailArgs the detail arguments
    * @param cause the cause problem
    * @param parameters additional parameters
+   * @param stackless whether to skip capturing the stack trace, see {@link
+   *     ProblemUtils#isStackTraceWritable(boolean, HttpStatus)}
    */
   private ApplicationException(
-      final String message,
       final HttpStatus status,
       final Problem problem,
       final String errorKey,
       @Nullable final String defaultDetail,
       @Nullable final Object[] detailArgs,
       @Nullable final ThrowableProblem cause,
-      @Nullable final Map<String, Object> parameters) {
-    super(message, cause);
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackless) {
+    super(null, cause, true, ProblemUtils.isStackTraceWritable(stackless, status));
     this.status = status;
     this.errorKey = errorKey;
     this.problem = problem;
@@ -54,6 +60,21 @@ public final class ApplicationException extends Exception implements ProblemSupp
     this.parameters = parameters;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String getMessage() {
+    String message = this.message;
+    if (message == null) {
+      message =
+          this.problem != null
+              ? ProblemUtils.toMessage(null, null, null, this.problem, null)
+              : ProblemUtils.toMessage(
+                  this.errorKey, this.defaultDetail, this.detailArgs, null, this.cause);
+      this.message = message;
+    }
+    return message;
+  }
+
   /**
    * Creates an {@link ApplicationException} with the given status and error details.
    *
@@ -72,16 +93,33 @@ public final class ApplicationException extends Exception implements ProblemSupp
       @Nullable final Object[] detailArgs,
       @Nullable final ThrowableProblem cause,
       @Nullable final Map<String, Object> parameters) {
+    return of(status, errorKey, defaultDetail, detailArgs, cause, parameters, false);
+  }
+
+  /**
+   * Creates an {@link ApplicationException} with the given status and error details, optionally
+   * without capturing the stack trace, which is not needed for business errors such as "not found".
+   *
+   * @param status the HTTP status
+   * @param errorKey the error key
+   * @param defaultDetail the default detail message
+   * @param detailArgs the detail message arguments
+   * @param cause the cause
+   * @param parameters additional parameters
+   * @param stackless whether to skip capturing the stack trace
+   * @return a new application exception
+   */
+  public static ApplicationException of(
+      final HttpStatus status,
+      final String errorKey,
+      @Nullable final String defaultDetail,
+      @Nullable final Object[] detailArgs,
+      @Nullable final ThrowableProblem cause,
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackless) {
     Assert.hasText(errorKey, "'errorKey' must not be null or empty");
     return new ApplicationException(
-        ProblemUtils.toMessage(errorKey, defaultDetail, detailArgs, null, cause),
-        status,
-        null,
-        errorKey,
-        defaultDetail,
-        detailArgs,
-        cause,
-        parameters);
+        status, null, errorKey, defaultDetail, detailArgs, cause, parameters, stackless);
   }
 
   /**
@@ -92,15 +130,21 @@ public final class ApplicationException extends Exception implements ProblemSupp
    * @return a new application exception
    */
   public static ApplicationException of(final HttpStatus status, final Problem problem) {
+    return of(status, problem, false);
+  }
+
+  /**
+   * Creates an {@link ApplicationException} from an existing {@link Problem}, optionally without
+   * capturing the stack trace.
+   *
+   * @param status the HTTP status
+   * @param problem the problem
+   * @param stackless whether to skip capturing the stack trace
+   * @return a new application exception
+   */
+  public static ApplicationException of(
+      final HttpStatus status, final Problem problem, final boolean stackless) {
     Assert.notNull(problem, "'problem' must not be null");
-    return new ApplicationException(
-        ProblemUtils.toMessage(null, null, null, problem, null),
-        status,
-        problem,
-        null,
-        null,
-        null,
-        null,
-        null);
+    return new ApplicationException(status, problem, null, null, null, null, null, stackless);
   }
 }
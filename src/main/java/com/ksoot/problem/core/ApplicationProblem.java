@@ -2,6 +2,8 @@ package com.ksoot.problem.core;
 
 import jakarta.annotation.Nullable;
 import java.util.Map;
+import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
@@ -23,10 +25,13 @@ public final class ApplicationProblem extends RuntimeException implements Proble
 
   private final Problem problem;
 
+  // Rendered only when first asked for, as it is rarely needed and costly to render
+  @Getter(AccessLevel.NONE)
+  private String message;
+
   /**
    * Constructs a new application problem.
    *
-   * @param message the message
    * @param status the HTTP status
    * @param problem the problem
    * @param errorKey the error key
@@ -34,17 +39,20 @@ public final class ApplicationProblem extends RuntimeException implements Proble
    * @param detailArgs the detail arguments
    * @param cause the cause problem
    * @param parameters additional parameters
+   * @param enableSuppression whether suppression is enabled
+   * @param writableStackTrace whether the stack trace should be writable
    */
   private ApplicationProblem(
-      final String message,
       final HttpStatus status,
       final Problem problem,
       final String errorKey,
       @Nullable final String defaultDetail,
       @Nullable final Object[] detailArgs,
       @Nullable final ThrowableProblem cause,
-      @Nullable final Map<String, Object> parameters) {
-    super(message, cause);
+      @Nullable final Map<String, Object> parameters,
+      final boolean enableSuppression,
+      final boolean writableStackTrace) {
+    super(null, cause, enableSuppression, writableStackTrace);
     Assert.notNull(status, "'status' must not be null");
     this.status = status;
     this.errorKey = errorKey;
@@ -55,6 +63,21 @@ public final class ApplicationProblem extends RuntimeException implements Proble
     this.parameters = parameters;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String getMessage() {
+    String message = this.message;
+    if (message == null) {
+      message =
+          this.problem != null
+              ? ProblemUtils.toMessage(null, null, null, this.problem, null)
+              : ProblemUtils.toMessage(
+                  this.errorKey, this.defaultDetail, this.detailArgs, null, this.cause);
+      this.message = message;
+    }
+    return message;
+  }
+
   /**
    * Creates an {@link ApplicationProblem} with the given status and error details.
    *
@@ -73,16 +96,41 @@ public final class ApplicationProblem extends RuntimeException implements Proble
       @Nullable final Object[] detailArgs,
       @Nullable final ThrowableProblem cause,
       @Nullable final Map<String, Object> parameters) {
+    return of(status, errorKey, defaultDetail, detailArgs, cause, parameters, false);
+  }
+
+  /**
+   * Creates an {@link ApplicationProblem} with the given status and error details, optionally
+   * without capturing the stack trace, which is not needed for business errors such as "not found".
+   *
+   * @param status the HTTP status
+   * @param errorKey the error key
+   * @param defaultDetail the default detail message
+   * @param detailArgs the detail message arguments
+   * @param cause the cause
+   * @param parameters additional parameters
+   * @param stackless whether to skip capturing the stack trace
+   * @return a new application problem
+   */
+  public static ApplicationProblem of(
+      final HttpStatus status,
+      final String errorKey,
+      @Nullable final String defaultDetail,
+      @Nullable final Object[] detailArgs,
+      @Nullable final ThrowableProblem cause,
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackless) {
     Assert.hasText(errorKey, "'errorKey' must not be null or empty");
     return new ApplicationProblem(
-        ProblemUtils.toMessage(errorKey, defaultDetail, detailArgs, null, cause),
         status,
         null,
         errorKey,
         defaultDetail,
         detailArgs,
         cause,
-        parameters);
+        parameters,
+        true,
+        ProblemUtils.isStackTraceWritable(stackless, status));
   }
 
   /**
@@ -95,14 +143,15 @@ public final class ApplicationProblem extends RuntimeException implements Proble
   public static ApplicationProblem of(final HttpStatus status, final String errorKey) {
     Assert.hasText(errorKey, "'errorKey' must not be null or empty");
     return new ApplicationProblem(
-        ProblemUtils.toMessage(errorKey, null, null, null, null),
         status,
         null,
         errorKey,
         null,
         null,
         null,
-        null);
+        null,
+        true,
+        ProblemUtils.isStackTraceWritable(false, status));
   }
 
   /**
@@ -113,15 +162,51 @@ public final class ApplicationProblem extends RuntimeException implements Proble
    * @return a new application problem
    */
   public static ApplicationProblem of(final HttpStatus status, final Problem problem) {
+    return of(status, problem, false);
+  }
+
+  /**
+   * Creates an {@link ApplicationProblem} from an existing {@link Problem}, optionally without
+   * capturing the stack trace.
+   *
+   * @param status the HTTP status
+   * @param problem the problem
+   * @param stackless whether to skip capturing the stack trace
+   * @return a new application problem
+   */
+  public static ApplicationProblem of(
+      final HttpStatus status, final Problem problem, final boolean stackless) {
     Assert.notNull(problem, "'problem' must not be null");
     return new ApplicationProblem(
-        ProblemUtils.toMessage(null, null, null, problem, null),
         status,
         problem,
         null,
         problem.getDetail(),
         null,
         null,
-        null);
+        null,
+        true,
+        ProblemUtils.isStackTraceWritable(stackless, status));
+  }
+
+  /**
+   * Creates an immutable {@link ApplicationProblem} for the given {@link ErrorType}, which can be
+   * thrown any number of times, as it has neither stack trace nor suppressed exceptions.
+   *
+   * @param errorType the error type
+   * @return a new shareable application problem
+   */
+  static ApplicationProblem prebuilt(final ErrorType errorType) {
+    Assert.hasText(errorType.getErrorKey(), "'errorKey' must not be null or empty");
+    return new ApplicationProblem(
+        Optional.ofNullable(errorType.getStatus()).orElse(HttpStatus.INTERNAL_SERVER_ERROR),
+        null,
+        errorType.getErrorKey(),
+        errorType.getDefaultDetail(),
+        null,
+        null,
+        ParameterMap.EMPTY,
+        false,
+        false);
   }
 }
@@ -1,14 +1,42 @@
 package com.ksoot.problem.core;
 
-import org.springframework.web.accept.ContentNegotiationStrategy;
-import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.http.MediaType;
 
 /** Utility for content negotiation. */
 class ContentNegotiation {
 
-  /** The default content negotiation strategy. */
-  static final ContentNegotiationStrategy DEFAULT =
-      new FallbackContentNegotiationStrategy(new HeaderContentNegotiationStrategy());
+  private static final int MAX_SIZE = 256;
+
+  // Keyed by raw Accept header, of which there are only a handful distinct in real traffic. The
+  // least recently used ones are evicted, so that a burst of odd headers does not crowd them out
+  private static final Cache<String, Optional<MediaType>> PROBLEM_MEDIA_TYPES =
+      CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
 
   private ContentNegotiation() {}
+
+  /**
+   * Returns the problem media type negotiated for the given {@code Accept} header, resolving the
+   * media types only if not negotiated for the same header recently.
+   *
+   * @param accept the raw {@code Accept} header value, {@code null} if absent
+   * @param mediaTypes the supplier of the media types resolved from the request
+   * @return the problem media type, if found
+   */
+  static Optional<MediaType> problemMediaType(
+      @Nullable final String accept, final Supplier<List<MediaType>> mediaTypes) {
+    final String key = accept != null ? accept : "";
+    Optional<MediaType> mediaType = PROBLEM_MEDIA_TYPES.getIfPresent(key);
+    if (mediaType == null) {
+      // Not cached if resolution fails, so that the error is raised for every such request
+      mediaType = ErrorResponseBuilder.getProblemMediaType(mediaTypes.get());
+      PROBLEM_MEDIA_TYPES.put(key, mediaType);
+    }
+    return mediaType;
+  }
 }
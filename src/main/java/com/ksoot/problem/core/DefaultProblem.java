@@ -41,4 +41,25 @@ public final class DefaultProblem extends AbstractThrowableProblem {
       @Nullable final Map<String, Object> parameters) {
     super(code, title, detail, cause, parameters);
   }
+
+  /**
+   * Constructs a new default problem with the given properties, capturing the stack trace only if
+   * asked to.
+   *
+   * @param code the problem code
+   * @param title the problem title
+   * @param detail the problem detail
+   * @param cause the problem cause
+   * @param parameters additional parameters
+   * @param stackTrace whether to capture the stack trace
+   */
+  DefaultProblem(
+      final String code,
+      final String title,
+      final String detail,
+      @Nullable final ThrowableProblem cause,
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackTrace) {
+    super(code, title, detail, cause, parameters, stackTrace);
+  }
 }
@@ -0,0 +1,81 @@
+package com.ksoot.problem.core;
+
+import com.google.common.base.Suppliers;
+import jakarta.annotation.Nullable;
+import java.io.Serial;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link ThrowableProblem} whose title and detail are resolved on first access, e.g. while the
+ * problem is being rendered in error response, and memoized afterwards. So the messages are never
+ * resolved for problems that are not rendered at all, such as when the response is already
+ * committed.
+ *
+ * <p>It is serialized as a {@link DefaultProblem} having resolved title and detail.
+ */
+public final class DeferredProblem extends ThrowableProblem {
+
+  @Serial private static final long serialVersionUID = -1409427436129466536L;
+
+  private final String code;
+  private final transient Supplier<String> title;
+  private final transient Supplier<String> detail;
+  private final Map<String, Object> parameters;
+
+  /**
+   * Constructs a new deferred problem with the given properties.
+   *
+   * @param code the problem code
+   * @param title the supplier of problem title
+   * @param detail the supplier of problem detail
+   * @param cause the problem cause
+   * @param parameters additional parameters
+   * @param stackTrace whether to capture the stack trace
+   */
+  DeferredProblem(
+      final String code,
+      final Supplier<String> title,
+      final Supplier<String> detail,
+      @Nullable final ThrowableProblem cause,
+      @Nullable final Map<String, Object> parameters,
+      final boolean stackTrace) {
+    super(cause, stackTrace);
+    this.code = code;
+    this.title = Suppliers.memoize(title::get);
+    this.detail = Suppliers.memoize(detail::get);
+    this.parameters = ParameterMap.copyOf(parameters);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCode() {
+    return this.code;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getTitle() {
+    return this.title.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getDetail() {
+    return this.detail.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, Object> getParameters() {
+    return this.parameters;
+  }
+
+  @Serial
+  private Object writeReplace() {
+    final DefaultProblem problem =
+        new DefaultProblem(this.code, getTitle(), getDetail(), getCause(), this.parameters, false);
+    problem.setStackTrace(getStackTrace());
+    return problem;
+  }
+}
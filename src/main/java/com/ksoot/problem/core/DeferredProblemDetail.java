@@ -0,0 +1,57 @@
+package com.ksoot.problem.core;
+
+import jakarta.annotation.Nullable;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * {@link ProblemDetail} taking the title and detail from a {@link Problem} only when these are
+ * read, e.g. while the error response is being serialized, unless set explicitly. So the messages
+ * of a {@link DeferredProblem} are not resolved if the error response is never written.
+ */
+@SuppressWarnings("serial")
+public class DeferredProblemDetail extends ProblemDetail {
+
+  private final Problem problem;
+
+  private boolean titleSet;
+
+  private boolean detailSet;
+
+  /**
+   * Constructs a new {@code DeferredProblemDetail} for the given status and problem.
+   *
+   * @param status the HTTP status
+   * @param problem the problem to take title and detail from
+   */
+  public DeferredProblemDetail(final HttpStatusCode status, final Problem problem) {
+    super(status.value());
+    this.problem = problem;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setTitle(@Nullable final String title) {
+    super.setTitle(title);
+    this.titleSet = true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable String getTitle() {
+    return this.titleSet ? super.getTitle() : this.problem.getTitle();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setDetail(@Nullable final String detail) {
+    super.setDetail(detail);
+    this.detailSet = true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable String getDetail() {
+    return this.detailSet ? super.getDetail() : this.problem.getDetail();
+  }
+}
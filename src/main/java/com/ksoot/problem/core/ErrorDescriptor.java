@@ -0,0 +1,163 @@
+package com.ksoot.problem.core;
+
+import com.ksoot.problem.spring.config.ProblemMessageProvider;
+import com.ksoot.problem.spring.config.ProblemTemplateCache;
+import jakarta.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Compact description of an error, that is all needed to render it as a {@link Problem} resolved
+ * from the message source by error key, same as for an {@link ApplicationProblem}. Captured in
+ * place of an exception, so that neither the exception nor its stack trace is retained, such as by
+ * a {@link MultiProblem#compact() compact} {@link MultiProblem} collecting a lot of errors.
+ *
+ * @author Rajveer Singh
+ */
+@Getter
+public final class ErrorDescriptor implements Serializable {
+
+  @Serial private static final long serialVersionUID = 6207152386917352803L;
+
+  /** The HTTP status. */
+  private final HttpStatus status;
+
+  /** The error key, used for mapping to localized messages. */
+  private final String errorKey;
+
+  /** The default detail message, {@code null} if not given. */
+  private final @Nullable String defaultDetail;
+
+  /** The arguments for the localized detail message, {@code null} if not given. */
+  private final @Nullable Object[] detailArgs;
+
+  /** Additional parameters. */
+  private final ParameterMap parameters;
+
+  /**
+   * The error key to fall back to if no messages are defined for the error key, {@code null} if
+   * none.
+   */
+  private final @Nullable String defaultErrorKey;
+
+  private ErrorDescriptor(
+      final HttpStatus status,
+      final String errorKey,
+      @Nullable final String defaultDetail,
+      @Nullable final Object[] detailArgs,
+      @Nullable final Map<String, Object> parameters,
+      @Nullable final String defaultErrorKey) {
+    this.status = status;
+    this.errorKey = errorKey;
+    this.defaultDetail = defaultDetail;
+    this.detailArgs = detailArgs;
+    this.parameters = ParameterMap.copyOf(parameters);
+    this.defaultErrorKey = defaultErrorKey;
+  }
+
+  /**
+   * Creates an error descriptor for the given {@link ErrorType}.
+   *
+   * @param errorType the error type
+   * @param detailArgs the arguments for the localized detail message
+   * @return a new error descriptor
+   */
+  public static ErrorDescriptor of(
+      final ErrorType errorType, @Nullable final Object... detailArgs) {
+    return of(
+        Optional.ofNullable(errorType.getStatus()).orElse(HttpStatus.INTERNAL_SERVER_ERROR),
+        errorType.getErrorKey(),
+        errorType.getDefaultDetail(),
+        detailArgs,
+        null);
+  }
+
+  /**
+   * Creates an error descriptor with the given status and error details.
+   *
+   * @param status the HTTP status
+   * @param errorKey the error key
+   * @param defaultDetail the default detail message
+   * @param detailArgs the arguments for the localized detail message
+   * @param parameters additional parameters
+   * @return a new error descriptor
+   */
+  public static ErrorDescriptor of(
+      final HttpStatus status,
+      final String errorKey,
+      @Nullable final String defaultDetail,
+      @Nullable final Object[] detailArgs,
+      @Nullable final Map<String, Object> parameters) {
+    Assert.notNull(status, "'status' must not be null");
+    Assert.hasText(errorKey, "'errorKey' must not be null or empty");
+    return new ErrorDescriptor(status, errorKey, defaultDetail, detailArgs, parameters, null);
+  }
+
+  /**
+   * Creates an error descriptor for the given exception. Error details of a {@link ProblemSupport}
+   * having an error key are taken as is. Any other exception is described the same way as when
+   * handled by the advices, that is by its class name as error key falling back to {@link
+   * GeneralErrorKey#INTERNAL_SERVER_ERROR}, with the status overridden by {@code status.<fqcn>}
+   * message code if any, otherwise resolved by {@link ProblemUtils#resolveStatus(Throwable)}. The
+   * exception message is not taken, as it may tell the internals, so the detail defaults to the
+   * status reason phrase if no detail message is defined. The cause is left out.
+   *
+   * @param exception the exception
+   * @return a new error descriptor
+   */
+  public static ErrorDescriptor of(final Throwable exception) {
+    Assert.notNull(exception, "'exception' must not be null");
+    if (exception instanceof ProblemSupport problemSupport
+        && problemSupport.getErrorKey() != null) {
+      return of(
+          Objects.requireNonNullElse(problemSupport.getStatus(), HttpStatus.INTERNAL_SERVER_ERROR),
+          problemSupport.getErrorKey(),
+          problemSupport.getDefaultDetail(),
+          problemSupport.getDetailArgs(),
+          problemSupport.getParameters());
+    }
+    final HttpStatus status = resolveStatus(exception);
+    return new ErrorDescriptor(
+        status,
+        ClassUtils.getName(exception.getClass()),
+        status.getReasonPhrase(),
+        null,
+        null,
+        GeneralErrorKey.INTERNAL_SERVER_ERROR);
+  }
+
+  // Same as AdviceTrait#resolveStatus, but status override resolved only if message source is set
+  private static HttpStatus resolveStatus(final Throwable exception) {
+    if (ProblemMessageProvider.isInitialized()) {
+      final Optional<HttpStatus> statusOverride =
+          ProblemTemplateCache.getStatusOverride(exception.getClass());
+      if (statusOverride.isPresent()) {
+        return statusOverride.get();
+      }
+    }
+    return ProblemUtils.resolveStatus(exception);
+  }
+
+  /**
+   * Returns a {@link Problem} for this error, whose code, title and detail are resolved from the
+   * message source only when rendered, in the locale of the calling thread.
+   *
+   * @return the problem
+   */
+  public Problem toProblem() {
+    return new ErrorKeyProblem(this);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return "ErrorDescriptor{" + this.status.value() + ", " + this.errorKey + "}";
+  }
+}
@@ -0,0 +1,114 @@
+package com.ksoot.problem.core;
+
+import static com.ksoot.problem.core.ProblemConstant.CODE_RESOLVER;
+import static com.ksoot.problem.core.ProblemConstant.DETAIL_RESOLVER;
+import static com.ksoot.problem.core.ProblemConstant.TITLE_RESOLVER;
+
+import com.google.common.base.Suppliers;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import com.ksoot.problem.spring.config.ProblemMessageProvider;
+import com.ksoot.problem.spring.config.ProblemMessageSourceResolver;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Problem for an {@link ErrorDescriptor}, whose code, title and detail are resolved from the
+ * message source by error key, same as for an {@link ApplicationProblem}, but only when rendered.
+ *
+ * @author Rajveer Singh
+ */
+final class ErrorKeyProblem implements Problem {
+
+  private final ErrorDescriptor descriptor;
+
+  private final Supplier<String> code;
+
+  private final Supplier<String> title;
+
+  private final Supplier<String> detail;
+
+  private final Map<String, Object> parameters;
+
+  ErrorKeyProblem(final ErrorDescriptor descriptor) {
+    this.descriptor = descriptor;
+
+    final String detailCode = ProblemConstant.DETAIL_CODE_PREFIX + descriptor.getErrorKey();
+    final MessageSourceResolvable codeResolver =
+        ProblemMessageSourceResolver.of(
+            codes(ProblemConstant.CODE_CODE_PREFIX, descriptor), descriptor.getStatus().value());
+    final MessageSourceResolvable titleResolver =
+        ProblemMessageSourceResolver.of(
+            codes(ProblemConstant.TITLE_CODE_PREFIX, descriptor),
+            descriptor.getStatus().getReasonPhrase());
+    final MessageSourceResolvable detailResolver =
+        ProblemMessageSourceResolver.of(
+            codes(ProblemConstant.DETAIL_CODE_PREFIX, descriptor),
+            descriptor.getDefaultDetail() != null ? descriptor.getDefaultDetail() : detailCode,
+            descriptor.getDetailArgs());
+    // Captures the current locale, as the messages may be resolved on some other thread
+    final Locale locale = LocaleContextHolder.getLocale();
+    this.code = Suppliers.memoize(() -> ProblemMessageProvider.getMessage(codeResolver, locale));
+    this.title = Suppliers.memoize(() -> ProblemMessageProvider.getMessage(titleResolver, locale));
+    this.detail =
+        Suppliers.memoize(() -> ProblemMessageProvider.getMessage(detailResolver, locale));
+    this.parameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.builder(descriptor.getParameters().size() + 3)
+                .putAll(descriptor.getParameters())
+                .put(CODE_RESOLVER, codeResolver)
+                .put(TITLE_RESOLVER, titleResolver)
+                .put(DETAIL_RESOLVER, detailResolver)
+                .build()
+            : descriptor.getParameters();
+  }
+
+  // Message codes for the error key, followed by the ones for the default error key if any
+  private static String[] codes(final String prefix, final ErrorDescriptor descriptor) {
+    final String code = prefix + descriptor.getErrorKey();
+    return descriptor.getDefaultErrorKey() != null
+        ? new String[] {code, prefix + descriptor.getDefaultErrorKey()}
+        : new String[] {code};
+  }
+
+  /**
+   * Returns the error descriptor this problem is for.
+   *
+   * @return the error descriptor
+   */
+  ErrorDescriptor getDescriptor() {
+    return this.descriptor;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCode() {
+    return this.code.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getTitle() {
+    return this.title.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getDetail() {
+    return this.detail.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ThrowableProblem getCause() {
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, Object> getParameters() {
+    return this.parameters;
+  }
+}
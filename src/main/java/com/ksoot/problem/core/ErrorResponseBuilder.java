@@ -7,16 +7,16 @@ import static com.ksoot.problem.core.ProblemConstant.TIMESTAMP_KEY;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 import com.ksoot.problem.spring.boot.autoconfigure.TraceProvider;
-import com.ksoot.problem.spring.config.ProblemBeanRegistry;
-import com.ksoot.problem.spring.config.ProblemProperties;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotEmpty;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -56,10 +56,25 @@ public interface ErrorResponseBuilder<T, R> {
     return Optional.empty();
   }
 
+  /**
+   * Returns the problem media type for the given {@code Accept} header. Negotiation results are
+   * cached by the raw header value, so the given media types are resolved only for a header not
+   * seen before.
+   *
+   * @param accept the raw {@code Accept} header value, {@code null} if absent
+   * @param mediaTypes the supplier of the media types resolved from the request
+   * @return the problem media type, if found
+   */
+  static Optional<MediaType> getProblemMediaType(
+      @Nullable final String accept, final Supplier<List<MediaType>> mediaTypes) {
+    return ContentNegotiation.problemMediaType(accept, mediaTypes);
+  }
+
   /**
    * Builds the error response.
    *
-   * @param throwable the throwable
+   * @param throwable the throwable, {@code null} if the problem is not thrown but returned as a
+   *     {@link ProblemResult}
    * @param request the request
    * @param status the HTTP status
    * @param headers the HTTP headers
@@ -67,7 +82,7 @@ public interface ErrorResponseBuilder<T, R> {
    * @return the error response
    */
   R buildResponse(
-      final Throwable throwable,
+      @Nullable final Throwable throwable,
       final T request,
       final HttpStatus status,
       final HttpHeaders headers,
@@ -87,21 +102,21 @@ public interface ErrorResponseBuilder<T, R> {
       final HttpStatus status,
       final Problem problem,
       final TraceProvider traceProvider) {
-    ProblemProperties problemProperties = ProblemBeanRegistry.problemProperties();
-    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, problem.getDetail());
-    problemDetail.setTitle(problem.getTitle());
+    ProblemEngine.Settings settings = ProblemEngine.settings();
+    // Title and detail are taken from problem only while rendering the response
+    ProblemDetail problemDetail =
+        settings.isFastRenderingEnabled()
+            ? new TemplatedProblemDetail(status, problem)
+            : new DeferredProblemDetail(status, problem);
     problemDetail.setInstance(requestUri(request));
-    if (StringUtils.isNotBlank(problemProperties.getTypeUrl())) {
-      URI type = URI.create(problemProperties.getTypeUrl() + "#" + problem.getCode());
-      problemDetail.setType(type);
+    if (settings.getTypeUrl() != null) {
+      problemDetail.setType(ResponseTemplates.typeUri(settings.getTypeUrl(), problem.getCode()));
     }
     problemDetail.setProperty(METHOD_KEY, requestMethod(request));
     problemDetail.setProperty(TIMESTAMP_KEY, OffsetDateTime.now());
     problemDetail.setProperty(CODE_KEY, problem.getCode());
 
-    if (Objects.nonNull(traceProvider)
-        && problemProperties.getTracing().isEnabled()
-        && problemProperties.getTracing().getStrategy().isBody()) {
+    if (Objects.nonNull(traceProvider) && settings.isTraceInBody()) {
       ImmutablePair<@NotEmpty String, String> trace = traceProvider.getTraceId();
       if (Objects.nonNull(trace)) {
         problemDetail.setProperty(trace.getKey(), trace.getValue());
@@ -29,4 +29,15 @@ public interface ErrorType {
    * @return the HTTP status
    */
   HttpStatus getStatus();
+
+  /**
+   * Returns whether the problems of this error type are to be built without capturing the stack
+   * trace, as for the business errors such as "not found" thrown for control flow, where it is of
+   * no use and costly to capture. Default: {@code false}.
+   *
+   * @return {@code true} if stackless, otherwise {@code false}
+   */
+  default boolean isStackless() {
+    return false;
+  }
 }
@@ -0,0 +1,31 @@
+package com.ksoot.problem.core;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * {@link ErrorType}s of the general problems built by {@link Problems}, having no default detail,
+ * so that the detail is looked up in message source by the error key.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GeneralErrorType implements ErrorType {
+  /** Resource not found, a business error and so stackless. */
+  NOT_FOUND(GeneralErrorKey.NOT_FOUND, HttpStatus.NOT_FOUND, true),
+  /** Internal server error, stack trace of which is usually needed to investigate. */
+  INTERNAL_SERVER_ERROR(
+      GeneralErrorKey.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, false);
+
+  private final String errorKey;
+
+  private final HttpStatus status;
+
+  private final boolean stackless;
+
+  /** {@inheritDoc} */
+  @Override
+  public String getDefaultDetail() {
+    return null;
+  }
+}
@@ -0,0 +1,93 @@
+package com.ksoot.problem.core;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.ArrayUtils;
+import org.springframework.context.MessageSourceResolvable;
+
+/**
+ * Utility class for the steps of message resolution shared by the problem message sources and
+ * catalogs, i.e. the locale fallback of bundles and resolution of message arguments.
+ *
+ * @author Rajveer Singh
+ */
+@UtilityClass
+public class MessageResolution {
+
+  /**
+   * Returns the locales of existing bundles to look up messages in for given locale, in order,
+   * similar to {@link java.util.ResourceBundle}. That is the requested locale and its parent
+   * locales, the system locale and its parent locales if no bundle exists for requested locale, and
+   * finally the base bundle, i.e. {@link Locale#ROOT}.
+   *
+   * @param locale the requested locale
+   * @param exists the test of whether a bundle exists for a locale
+   * @return the candidate locales, most specific first
+   */
+  public static List<Locale> candidateLocales(final Locale locale, final Predicate<Locale> exists) {
+    List<Locale> candidateLocales = existingLocales(locale, exists);
+    if (candidateLocales.isEmpty() && !locale.equals(Locale.getDefault())) {
+      candidateLocales = existingLocales(Locale.getDefault(), exists);
+    }
+    if (exists.test(Locale.ROOT)) {
+      candidateLocales.add(Locale.ROOT);
+    }
+    return candidateLocales;
+  }
+
+  // Existing bundle locales for given locale, most specific first, excluding root locale
+  private static List<Locale> existingLocales(final Locale locale, final Predicate<Locale> exists) {
+    final List<Locale> locales = new ArrayList<>(3);
+    final String language = locale.getLanguage();
+    final String country = locale.getCountry();
+    final String variant = locale.getVariant();
+    if (!variant.isEmpty()) {
+      addIfExists(new Locale(language, country, variant), exists, locales);
+    }
+    if (!country.isEmpty()) {
+      addIfExists(new Locale(language, country), exists, locales);
+    }
+    if (!language.isEmpty()) {
+      addIfExists(new Locale(language), exists, locales);
+    }
+    return locales;
+  }
+
+  private static void addIfExists(
+      final Locale locale, final Predicate<Locale> exists, final List<Locale> locales) {
+    if (exists.test(locale)) {
+      locales.add(locale);
+    }
+  }
+
+  /**
+   * Resolves the {@link MessageSourceResolvable} arguments of a message with given resolver. The
+   * given arguments are returned as is if there are none to resolve, otherwise a copy is returned
+   * having such arguments replaced by the resolved messages.
+   *
+   * @param args the message arguments
+   * @param resolver the resolver of a {@link MessageSourceResolvable} argument to message
+   * @return the resolved arguments
+   */
+  public static @Nullable Object[] resolveArguments(
+      @Nullable final Object[] args, final Function<MessageSourceResolvable, String> resolver) {
+    if (ArrayUtils.isEmpty(args)) {
+      return args;
+    }
+    Object[] resolvedArgs = args;
+    for (int i = 0; i < args.length; i++) {
+      if (args[i] instanceof MessageSourceResolvable resolvable) {
+        if (resolvedArgs == args) {
+          resolvedArgs = args.clone();
+        }
+        resolvedArgs[i] = resolver.apply(resolvable);
+      }
+    }
+    return resolvedArgs;
+  }
+}
@@ -8,7 +8,13 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 
-/** A {@link RuntimeException} that can hold multiple problems or exceptions. */
+/**
+ * A {@link RuntimeException} that can hold multiple problems or exceptions.
+ *
+ * <p>A {@link #compact() compact} multi-problem keeps an {@link ErrorDescriptor} for each exception
+ * added instead of the exception itself, so that the exceptions and their stack traces are not
+ * retained while collecting a lot of errors, such as in batch imports.
+ */
 @Getter
 public class MultiProblem extends RuntimeException {
 
@@ -16,6 +22,9 @@ public class MultiProblem extends RuntimeException {
 
   private final List<Object> errors;
 
+  /** Whether the exceptions added are kept as {@link ErrorDescriptor}s. */
+  private final boolean compact;
+
   /**
    * Constructs a new multi-problem with the given status and problems.
    *
@@ -28,6 +37,7 @@ public class MultiProblem extends RuntimeException {
     Assert.noNullElements(problems, "'problems' must not contain null");
     this.status = status;
     this.errors = new ArrayList<>(problems);
+    this.compact = false;
   }
 
   /**
@@ -42,6 +52,23 @@ public class MultiProblem extends RuntimeException {
     Assert.noNullElements(exceptions, "'exceptions' must not contain null");
     this.status = status;
     this.errors = new ArrayList<>(exceptions);
+    this.compact = false;
+  }
+
+  /**
+   * Constructs a new multi-problem with the given status and error descriptors.
+   *
+   * @param status the HTTP status
+   * @param descriptors the list of error descriptors
+   * @param compact whether the exceptions added are to be kept as error descriptors
+   */
+  private MultiProblem(
+      final HttpStatus status, final List<ErrorDescriptor> descriptors, final boolean compact) {
+    super(status.getReasonPhrase());
+    Assert.noNullElements(descriptors, "'descriptors' must not contain null");
+    this.status = status;
+    this.errors = new ArrayList<>(descriptors);
+    this.compact = compact;
   }
 
   /**
@@ -90,14 +117,72 @@ public class MultiProblem extends RuntimeException {
   }
 
   /**
-   * Adds an exception to this multi-problem.
+   * Creates an empty compact {@link MultiProblem}, keeping an {@link ErrorDescriptor} for each
+   * exception added instead of the exception itself.
+   *
+   * @param status the HTTP status
+   * @return a new multi-problem
+   */
+  public static MultiProblem compact(final HttpStatus status) {
+    Assert.notNull(status, "'status' must not be null");
+    return new MultiProblem(status, Collections.emptyList(), true);
+  }
+
+  /**
+   * Creates an empty compact {@link MultiProblem} with {@link HttpStatus#MULTI_STATUS}.
+   *
+   * @return a new multi-problem
+   * @see #compact(HttpStatus)
+   */
+  public static MultiProblem compact() {
+    return compact(HttpStatus.MULTI_STATUS);
+  }
+
+  /**
+   * Creates a {@link MultiProblem} from a list of error descriptors.
+   *
+   * @param status the HTTP status
+   * @param descriptors the list of error descriptors
+   * @return a new multi-problem
+   */
+  public static MultiProblem ofDescriptors(
+      final HttpStatus status, final List<ErrorDescriptor> descriptors) {
+    Assert.notNull(status, "'status' must not be null");
+    Assert.isTrue(
+        CollectionUtils.isNotEmpty(descriptors), "'descriptors' must not be null or empty");
+    return new MultiProblem(status, descriptors, false);
+  }
+
+  /**
+   * Adds an exception to this multi-problem. A compact multi-problem keeps the problem of a {@link
+   * Problem} or {@link ProblemSupport} having one, and an {@link ErrorDescriptor} of any other
+   * exception.
    *
    * @param exception the exception to add
    * @return this multi-problem
    */
   public MultiProblem add(final Throwable exception) {
     Assert.notNull(exception, "'exception' must not be null");
-    this.errors.add(exception);
+    if (!this.compact || exception instanceof Problem) {
+      this.errors.add(exception);
+    } else if (exception instanceof ProblemSupport problemSupport
+        && problemSupport.getProblem() != null) {
+      this.errors.add(problemSupport.getProblem());
+    } else {
+      this.errors.add(ErrorDescriptor.of(exception));
+    }
+    return this;
+  }
+
+  /**
+   * Adds an error descriptor to this multi-problem.
+   *
+   * @param descriptor the error descriptor to add
+   * @return this multi-problem
+   */
+  public MultiProblem add(final ErrorDescriptor descriptor) {
+    Assert.notNull(descriptor, "'descriptor' must not be null");
+    this.errors.add(descriptor);
     return this;
   }
 
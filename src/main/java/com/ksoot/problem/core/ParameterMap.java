@@ -0,0 +1,263 @@
+package com.ksoot.problem.core;
+
+import jakarta.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, insertion ordered map of problem parameters, backed by a single array of alternating
+ * keys and values. Problems usually have a handful of parameters, for which a linear lookup is as
+ * fast as hashing and the map takes a fraction of the memory of a {@link java.util.LinkedHashMap}.
+ *
+ * <p>Being immutable, a {@code ParameterMap} is shared by reference all the way from the advice
+ * building the parameters to the problem holding these, instead of being copied at each step.
+ *
+ * @author Rajveer Singh
+ */
+public final class ParameterMap extends AbstractMap<String, Object> implements Serializable {
+
+  @Serial private static final long serialVersionUID = -2853420175361894462L;
+
+  /** The empty parameter map. */
+  public static final ParameterMap EMPTY = new ParameterMap(new Object[0]);
+
+  // Alternating keys and values
+  private final Object[] entries;
+
+  private ParameterMap(final Object[] entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Returns a parameter map having the given entry.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the parameter map
+   */
+  public static ParameterMap of(final String key, @Nullable final Object value) {
+    return builder(1).put(key, value).build();
+  }
+
+  /**
+   * Returns a parameter map having the given entries, in given order.
+   *
+   * @param key1 the first key
+   * @param value1 the first value
+   * @param key2 the second key
+   * @param value2 the second value
+   * @return the parameter map
+   */
+  public static ParameterMap of(
+      final String key1,
+      @Nullable final Object value1,
+      final String key2,
+      @Nullable final Object value2) {
+    return builder(2).put(key1, value1).put(key2, value2).build();
+  }
+
+  /**
+   * Returns a parameter map having the entries of given map, which is returned as is if already a
+   * {@code ParameterMap}.
+   *
+   * @param map the map to copy
+   * @return the parameter map
+   */
+  public static ParameterMap copyOf(@Nullable final Map<String, Object> map) {
+    if (map instanceof ParameterMap parameterMap) {
+      return parameterMap;
+    }
+    if (map == null || map.isEmpty()) {
+      return EMPTY;
+    }
+    return builder(map.size()).putAll(map).build();
+  }
+
+  /**
+   * Returns a new builder.
+   *
+   * @param expectedSize the expected number of entries
+   * @return the builder
+   */
+  public static Builder builder(final int expectedSize) {
+    return new Builder(expectedSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return this.entries.length >> 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return this.entries.length == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsKey(final Object key) {
+    return indexOf(this.entries, this.entries.length, key) >= 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(final Object key) {
+    final int index = indexOf(this.entries, this.entries.length, key);
+    return index >= 0 ? this.entries[index + 1] : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void forEach(final BiConsumer<? super String, ? super Object> action) {
+    for (int i = 0; i < this.entries.length; i += 2) {
+      action.accept((String) this.entries[i], this.entries[i + 1]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new Iterator<>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return this.index < ParameterMap.this.entries.length;
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final Object[] entries = ParameterMap.this.entries;
+            final Entry<String, Object> entry =
+                new SimpleImmutableEntry<>((String) entries[this.index], entries[this.index + 1]);
+            this.index += 2;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ParameterMap.this.size();
+      }
+    };
+  }
+
+  private static int indexOf(final Object[] entries, final int length, final Object key) {
+    for (int i = 0; i < length; i += 2) {
+      if (Objects.equals(entries[i], key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Builder of {@link ParameterMap}. Adopts a {@code ParameterMap} put in whole into an empty
+   * builder by reference, copying its entries only if more are put afterwards.
+   */
+  public static final class Builder {
+
+    private Object[] entries;
+
+    private int length;
+
+    private ParameterMap adopted;
+
+    private Builder(final int expectedSize) {
+      this.entries = new Object[Math.max(expectedSize, 1) << 1];
+    }
+
+    /**
+     * Puts the given entry, replacing the value of an existing entry with same key.
+     *
+     * @param key the key
+     * @param value the value
+     * @return this builder
+     */
+    public Builder put(final String key, @Nullable final Object value) {
+      Assert.notNull(key, "'key' must not be null");
+      if (this.adopted != null) {
+        this.entries = Arrays.copyOf(this.entries, this.length + 2);
+        this.adopted = null;
+      }
+      final int index = indexOf(this.entries, this.length, key);
+      if (index >= 0) {
+        this.entries[index + 1] = value;
+      } else {
+        if (this.length == this.entries.length) {
+          this.entries = Arrays.copyOf(this.entries, this.length << 1);
+        }
+        this.entries[this.length++] = key;
+        this.entries[this.length++] = value;
+      }
+      return this;
+    }
+
+    /**
+     * Puts all entries of the given map.
+     *
+     * @param map the map
+     * @return this builder
+     */
+    public Builder putAll(final Map<String, Object> map) {
+      if (this.length == 0 && map instanceof ParameterMap parameterMap) {
+        this.entries = parameterMap.entries;
+        this.length = parameterMap.entries.length;
+        this.adopted = parameterMap;
+      } else {
+        map.forEach(this::put);
+      }
+      return this;
+    }
+
+    /**
+     * Returns whether no entries are put yet.
+     *
+     * @return {@code true} if empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+      return this.length == 0;
+    }
+
+    /**
+     * Builds the parameter map. The builder can be used further, without affecting the maps built.
+     *
+     * @return the parameter map
+     */
+    public ParameterMap build() {
+      if (this.adopted != null) {
+        return this.adopted;
+      }
+      if (this.length == 0) {
+        return EMPTY;
+      }
+      // Shared with the map built, so copied on next put
+      this.adopted =
+          new ParameterMap(
+              this.length == this.entries.length
+                  ? this.entries
+                  : Arrays.copyOf(this.entries, this.length));
+      this.entries = this.adopted.entries;
+      return this.adopted;
+    }
+  }
+}
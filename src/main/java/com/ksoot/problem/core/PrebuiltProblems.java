@@ -0,0 +1,76 @@
+package com.ksoot.problem.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of immutable {@link ApplicationProblem}s built once per {@link ErrorType}, so that
+ * throwing a problem of a registered error type, having no detail arguments, cause or parameters,
+ * allocates nothing. Error types are registered explicitly, or by scanning the classpath for {@link
+ * ErrorType} enums at startup if {@code problem.prebuilt.enabled} is set.
+ *
+ * <p>Prebuilt problems have no stack trace, so these are thrown only for error types that are
+ * stackless, or if {@code problem.stackless-enabled} is set, and as long as the stack trace is not
+ * needed, as per {@link ProblemUtils#isStackTraceWritable(boolean, HttpStatus)}. A new problem is
+ * built otherwise.
+ *
+ * @author Rajveer Singh
+ */
+@UtilityClass
+public class PrebuiltProblems {
+
+  private static final Map<ErrorType, ApplicationProblem> PROBLEMS = new ConcurrentHashMap<>();
+
+  static {
+    register(GeneralErrorType.values());
+  }
+
+  /**
+   * Registers the given error types, building their problems.
+   *
+   * @param errorTypes the error types
+   */
+  public static void register(final ErrorType... errorTypes) {
+    for (final ErrorType errorType : errorTypes) {
+      PROBLEMS.computeIfAbsent(errorType, ApplicationProblem::prebuilt);
+    }
+  }
+
+  /**
+   * Registers all constants of the given {@link ErrorType} enum, building their problems.
+   *
+   * @param errorTypeEnum the error type enum class
+   */
+  public static void register(final Class<? extends ErrorType> errorTypeEnum) {
+    Assert.isTrue(errorTypeEnum.isEnum(), () -> errorTypeEnum.getName() + " is not an enum");
+    register(errorTypeEnum.getEnumConstants());
+  }
+
+  /**
+   * Returns whether the given error type is registered.
+   *
+   * @param errorType the error type
+   * @return {@code true} if registered, otherwise {@code false}
+   */
+  public static boolean isRegistered(final ErrorType errorType) {
+    return PROBLEMS.containsKey(errorType);
+  }
+
+  /**
+   * Returns the prebuilt problem for the given error type if registered and its stack trace is not
+   * needed, otherwise a new problem built as {@code Problems.newInstance(errorType).throwAble()}.
+   *
+   * @param errorType the error type
+   * @return the application problem
+   */
+  public static ApplicationProblem of(final ErrorType errorType) {
+    final ApplicationProblem problem = PROBLEMS.get(errorType);
+    return problem != null
+            && !ProblemUtils.isStackTraceWritable(errorType.isStackless(), errorType.getStatus())
+        ? problem
+        : Problems.newInstance(errorType).throwAble();
+  }
+}
@@ -6,10 +6,10 @@ import jakarta.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.commons.collections4.MapUtils;
 import org.springframework.util.Assert;
@@ -110,6 +110,16 @@ public interface Problem {
      * @return this builder
      */
     ParameterBuilder parameter(final String key, final Object value);
+
+    /**
+     * Sets whether to build the problem without stack trace, such as for a problem converted from
+     * another throwable whose stack trace is not needed. The stack trace of a stackless problem is
+     * not writable, so stays empty even if set afterwards.
+     *
+     * @param stackless whether the problem is to be stackless
+     * @return this builder
+     */
+    ParameterBuilder stackless(boolean stackless);
   }
 
   /** Part of the {@link Problem} builder for setting multiple parameters at once. */
@@ -132,8 +142,11 @@ public interface Problem {
     private final String code;
     private final String title;
     private String detail;
+    private Supplier<String> deferredTitle;
+    private Supplier<String> deferredDetail;
     private ThrowableProblem cause;
-    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private boolean stackless;
+    private final ParameterMap.Builder parameters = ParameterMap.builder(4);
 
     ProblemBuilder(final String code, final String title) {
       this(code, title, null);
@@ -147,9 +160,23 @@ public interface Problem {
       this.detail = detail;
     }
 
+    ProblemBuilder(
+        final String code,
+        final Supplier<String> deferredTitle,
+        final Supplier<String> deferredDetail) {
+      Assert.hasText(code, "'code' must not be null or empty");
+      Assert.notNull(deferredTitle, "'deferredTitle' must not be null");
+      Assert.notNull(deferredDetail, "'deferredDetail' must not be null");
+      this.code = code;
+      this.title = null;
+      this.deferredTitle = deferredTitle;
+      this.deferredDetail = deferredDetail;
+    }
+
     @Override
     public CauseBuilder detail(final String detail) {
       this.detail = detail;
+      this.deferredDetail = null;
       return this;
     }
 
@@ -161,24 +188,46 @@ public interface Problem {
 
     @Override
     public ParameterBuilder parameter(final String key, final Object value) {
-      Assert.hasText(key, "'key' must not be null or empty");
-      Assert.isTrue(!RESERVED_PROPERTIES.contains(key), "Property " + key + " is reserved");
+      assertNotReserved(key);
       this.parameters.put(key, value);
       return this;
     }
 
+    @Override
+    public ParameterBuilder stackless(final boolean stackless) {
+      this.stackless = stackless;
+      return this;
+    }
+
     @Override
     public org.apache.commons.lang3.builder.Builder<ThrowableProblem> parameters(
         @Nullable final Map<String, Object> parameters) {
       if (MapUtils.isNotEmpty(parameters)) {
-        parameters.forEach((key, value) -> parameter(key, value));
+        parameters.forEach((key, value) -> assertNotReserved(key));
+        // ParameterMap is taken as is, instead of being copied
+        this.parameters.putAll(parameters);
       }
       return this;
     }
 
+    private static void assertNotReserved(final String key) {
+      Assert.hasText(key, "'key' must not be null or empty");
+      Assert.isTrue(!RESERVED_PROPERTIES.contains(key), "Property " + key + " is reserved");
+    }
+
     @Override
     public ThrowableProblem build() {
-      return new DefaultProblem(this.code, this.title, this.detail, this.cause, this.parameters);
+      if (this.deferredTitle != null) {
+        return new DeferredProblem(
+            this.code,
+            this.deferredTitle,
+            this.deferredDetail != null ? this.deferredDetail : () -> this.detail,
+            this.cause,
+            this.parameters.build(),
+            !this.stackless);
+      }
+      return new DefaultProblem(
+          this.code, this.title, this.detail, this.cause, this.parameters.build(), !this.stackless);
     }
   }
 }
@@ -7,6 +7,7 @@ public class ProblemConstant {
   public static final String METHOD_KEY = "method";
   public static final String TIMESTAMP_KEY = "timestamp";
   public static final String STACKTRACE_KEY = "statcktrace";
+  public static final String FINGERPRINT_KEY = "fingerprint";
   public static final String CAUSE_KEY = "cause";
   public static final String ERRORS_KEY = "errors";
   public static final String VIOLATIONS_KEY = "violations";
@@ -0,0 +1,321 @@
+package com.ksoot.problem.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Logs handled errors as per the {@link Policy} for the error code, status code or status class,
+ * such as {@code 4xx} at {@code WARN} without stack trace and {@code 5xx} at {@code ERROR} with it.
+ *
+ * <p>A policy may limit the rate of logging per fingerprint of the error, as taken by {@link
+ * StackTraceInterner#fingerprint(Throwable, int)}, by a token bucket refilled over a period. The
+ * occurrences within the limit are logged in full along with the fingerprint, and the ones beyond
+ * it are counted and logged as a single "suppressed N occurrences" summary at most once per summary
+ * interval, so that an error repeated over and over does not swamp the logs.
+ *
+ * @author Rajveer Singh
+ */
+public final class ProblemLogger {
+
+  private static final int MAX_STATUS = 600;
+
+  private volatile Policies policies;
+
+  private volatile int fingerprintDepth;
+
+  private volatile long maxFingerprints;
+
+  private volatile Cache<String, Occurrences> occurrences;
+
+  /**
+   * Constructs a new {@code ProblemLogger}.
+   *
+   * @param defaultPolicy the policy for the errors not matching any of policies
+   * @param policies the policies by error code such as {@code XYZ-001}, status code such as {@code
+   *     404} or status class such as {@code 4xx}
+   * @param fingerprintDepth the number of top frames the fingerprint of an error is taken from
+   * @param maxFingerprints the maximum number of fingerprints whose occurrences are tracked
+   */
+  public ProblemLogger(
+      final Policy defaultPolicy,
+      final Map<String, Policy> policies,
+      final int fingerprintDepth,
+      final long maxFingerprints) {
+    this.policies = new Policies(defaultPolicy, policies);
+    this.fingerprintDepth = fingerprintDepth;
+    this.maxFingerprints = maxFingerprints;
+    this.occurrences = CacheBuilder.newBuilder().maximumSize(maxFingerprints).build();
+  }
+
+  /**
+   * Reconfigures this logger, such as on refresh of properties. The occurrences tracked so far are
+   * kept and limited as per the new policies, unless the maximum number of fingerprints or the
+   * fingerprint depth changed.
+   *
+   * @param defaultPolicy the policy for the errors not matching any of policies
+   * @param policies the policies by error code such as {@code XYZ-001}, status code such as {@code
+   *     404} or status class such as {@code 4xx}
+   * @param fingerprintDepth the number of top frames the fingerprint of an error is taken from
+   * @param maxFingerprints the maximum number of fingerprints whose occurrences are tracked
+   */
+  public synchronized void configure(
+      final Policy defaultPolicy,
+      final Map<String, Policy> policies,
+      final int fingerprintDepth,
+      final long maxFingerprints) {
+    this.policies = new Policies(defaultPolicy, policies);
+    if (fingerprintDepth != this.fingerprintDepth || maxFingerprints != this.maxFingerprints) {
+      this.fingerprintDepth = fingerprintDepth;
+      this.maxFingerprints = maxFingerprints;
+      this.occurrences = CacheBuilder.newBuilder().maximumSize(maxFingerprints).build();
+    }
+  }
+
+  /**
+   * Logs the given error with the given logger, as per the policy for the given error code if any,
+   * otherwise for the given status.
+   *
+   * @param logger the logger
+   * @param throwable the throwable
+   * @param status the HTTP status
+   * @param code the error code, {@code null} if not known
+   */
+  public void log(
+      final Logger logger,
+      final Throwable throwable,
+      final HttpStatus status,
+      @Nullable final String code) {
+    final Policy policy = resolvePolicy(status, code);
+    if (!logger.isEnabledForLevel(policy.level)) {
+      return;
+    }
+    if (policy.rateLimit == 0) {
+      write(logger, policy, throwable, status, null, 0);
+      return;
+    }
+    final String fingerprint = StackTraceInterner.fingerprint(throwable, this.fingerprintDepth);
+    final Occurrences tracked =
+        this.occurrences.asMap().computeIfAbsent(fingerprint, key -> new Occurrences(policy));
+    final long now = System.nanoTime();
+    final long suppressed = tracked.acquire(policy, now);
+    if (suppressed >= 0) {
+      write(logger, policy, throwable, status, fingerprint, suppressed);
+    } else {
+      final long summarized = tracked.suppress(policy, now);
+      if (summarized > 0) {
+        logger
+            .atLevel(policy.level)
+            .log(
+                "{} [fingerprint {}]: suppressed {} occurrences of {}",
+                status.getReasonPhrase(),
+                fingerprint,
+                summarized,
+                throwable.toString());
+      }
+    }
+  }
+
+  /**
+   * Returns whether the stack trace of any error is logged, as per any of the policies.
+   *
+   * @return {@code true} if any of the policies logs the stack trace, otherwise {@code false}
+   */
+  public boolean isStackTraceLogged() {
+    return this.policies.anyStackTrace;
+  }
+
+  /**
+   * Returns whether the stack trace of an error with the given status may be logged, as per the
+   * policy for the status, or any of the policies by error code as the code may not be known yet.
+   *
+   * @param status the HTTP status
+   * @return {@code true} if the stack trace may be logged, otherwise {@code false}
+   */
+  public boolean isStackTraceLogged(final HttpStatus status) {
+    final Policies current = this.policies;
+    return current.codeStackTrace || resolvePolicy(status, null).stackTrace;
+  }
+
+  private Policy resolvePolicy(final HttpStatus status, @Nullable final String code) {
+    final Policies current = this.policies;
+    final Policy policy = code != null ? current.byKey.get(code) : null;
+    if (policy != null) {
+      return policy;
+    }
+    final int value = status.value();
+    return value >= 0 && value < MAX_STATUS ? current.byStatus[value] : current.defaultPolicy;
+  }
+
+  private static void write(
+      final Logger logger,
+      final Policy policy,
+      final Throwable throwable,
+      final HttpStatus status,
+      @Nullable final String fingerprint,
+      final long suppressed) {
+    final StringBuilder message = new StringBuilder(status.getReasonPhrase());
+    if (fingerprint != null) {
+      message.append(" [fingerprint ").append(fingerprint).append(']');
+    }
+    if (!policy.stackTrace) {
+      message.append(": ").append(throwable);
+    }
+    if (suppressed > 0) {
+      message.append(" (").append(suppressed).append(" similar occurrences suppressed)");
+    }
+    final LoggingEventBuilder event = logger.atLevel(policy.level);
+    if (policy.stackTrace) {
+      event.setCause(throwable);
+    }
+    event.log(message.toString());
+  }
+
+  /** Logging policy of errors. */
+  public static final class Policy {
+
+    /** Policy logging at {@code ERROR} level with stack trace, without any rate limit. */
+    public static final Policy DEFAULT = new Policy(Level.ERROR, true, 0, Duration.ZERO, null);
+
+    private final Level level;
+
+    private final boolean stackTrace;
+
+    private final int rateLimit;
+
+    private final long refillNanos;
+
+    private final long summaryIntervalNanos;
+
+    /**
+     * Constructs a new {@code Policy}.
+     *
+     * @param level the level to log at
+     * @param stackTrace whether to log the stack trace
+     * @param rateLimit the maximum number of occurrences per fingerprint logged in full within the
+     *     rate period, {@code 0} for no limit
+     * @param ratePeriod the period over which the rate limit is restored
+     * @param summaryInterval the minimum interval between summaries of suppressed occurrences,
+     *     defaults to rate period if {@code null}
+     */
+    public Policy(
+        final Level level,
+        final boolean stackTrace,
+        final int rateLimit,
+        final Duration ratePeriod,
+        @Nullable final Duration summaryInterval) {
+      this.level = level;
+      this.stackTrace = stackTrace;
+      this.rateLimit = Math.max(rateLimit, 0);
+      // Time to restore a single occurrence to the limit
+      this.refillNanos =
+          this.rateLimit > 0 ? Math.max(ratePeriod.toNanos() / this.rateLimit, 1) : 0;
+      this.summaryIntervalNanos =
+          (summaryInterval != null ? summaryInterval : ratePeriod).toNanos();
+    }
+  }
+
+  // Immutable policies, swapped as a whole on reconfiguration
+  private static final class Policies {
+
+    private final Policy defaultPolicy;
+
+    private final Map<String, Policy> byKey;
+
+    // Policy per status code, resolved once from the policies by status code and status class
+    private final Policy[] byStatus = new Policy[MAX_STATUS];
+
+    // Whether any of the policies, or any of the ones by error code, logs the stack trace
+    private final boolean anyStackTrace;
+
+    private final boolean codeStackTrace;
+
+    private Policies(final Policy defaultPolicy, final Map<String, Policy> policies) {
+      this.defaultPolicy = defaultPolicy;
+      this.byKey = Map.copyOf(policies);
+      for (int status = 0; status < MAX_STATUS; status++) {
+        Policy policy = this.byKey.get(String.valueOf(status));
+        if (policy == null) {
+          policy = this.byKey.getOrDefault(status / 100 + "xx", defaultPolicy);
+        }
+        this.byStatus[status] = policy;
+      }
+      this.codeStackTrace =
+          this.byKey.entrySet().stream()
+              .anyMatch(entry -> entry.getValue().stackTrace && !isStatusKey(entry.getKey()));
+      this.anyStackTrace =
+          defaultPolicy.stackTrace
+              || this.byKey.values().stream().anyMatch(policy -> policy.stackTrace);
+    }
+
+    // Status code such as 404 or status class such as 4xx
+    private static boolean isStatusKey(final String key) {
+      return key.length() == 3
+          && Character.isDigit(key.charAt(0))
+          && (key.endsWith("xx")
+              || Character.isDigit(key.charAt(1)) && Character.isDigit(key.charAt(2)));
+    }
+  }
+
+  // Token bucket of occurrences of a fingerprint, along with the count of suppressed ones
+  private static final class Occurrences {
+
+    private long tokens;
+
+    private long lastRefill;
+
+    private long suppressed;
+
+    private long lastSummary;
+
+    private Occurrences(final Policy policy) {
+      this.tokens = policy.rateLimit;
+      this.lastRefill = System.nanoTime();
+      this.lastSummary = this.lastRefill;
+    }
+
+    // Takes a token, returning the number of occurrences suppressed since, or -1 if none left.
+    // The policy is passed on each call, so that a reconfigured limit applies to tracked ones too
+    private synchronized long acquire(final Policy policy, final long now) {
+      if (this.tokens > policy.rateLimit) {
+        this.tokens = policy.rateLimit;
+      }
+      if (policy.refillNanos > 0 && this.tokens < policy.rateLimit) {
+        final long refilled = (now - this.lastRefill) / policy.refillNanos;
+        if (refilled > 0) {
+          this.tokens = Math.min(policy.rateLimit, this.tokens + refilled);
+          this.lastRefill += refilled * policy.refillNanos;
+        }
+      }
+      if (this.tokens == 0) {
+        return -1;
+      }
+      if (this.tokens == policy.rateLimit) {
+        this.lastRefill = now;
+      }
+      this.tokens--;
+      final long count = this.suppressed;
+      this.suppressed = 0;
+      this.lastSummary = now;
+      return count;
+    }
+
+    // Counts a suppressed occurrence, returning the count to summarize once the interval elapsed
+    private synchronized long suppress(final Policy policy, final long now) {
+      this.suppressed++;
+      if (now - this.lastSummary < policy.summaryIntervalNanos) {
+        return 0;
+      }
+      final long count = this.suppressed;
+      this.suppressed = 0;
+      this.lastSummary = now;
+      return count;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.ksoot.problem.core;
+
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Result of an operation, either a value or a {@link Problem}, to be returned instead of throwing
+ * an {@link ApplicationProblem} on hot paths. Returned from a controller method, a successful
+ * result is written as the response body, and a failed one is rendered through the {@link
+ * ErrorResponseBuilder} same as a thrown problem, without any exception ever being created.
+ *
+ * <pre>{@code
+ * ProblemResult<Account> account(final String id) {
+ *   return this.accountService.find(id)
+ *       .map(ProblemResult::success)
+ *       .orElseGet(() -> ProblemResult.failure(AccountErrorType.ACCOUNT_NOT_FOUND, id));
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of value
+ * @author Rajveer Singh
+ */
+public final class ProblemResult<T> {
+
+  private final @Nullable T value;
+
+  private final @Nullable HttpStatus status;
+
+  private final @Nullable Problem problem;
+
+  private ProblemResult(
+      @Nullable final T value, @Nullable final HttpStatus status, @Nullable final Problem problem) {
+    this.value = value;
+    this.status = status;
+    this.problem = problem;
+  }
+
+  /**
+   * Creates a successful result with the given value.
+   *
+   * @param <T> the type of value
+   * @param value the value
+   * @return a new successful result
+   */
+  public static <T> ProblemResult<T> success(@Nullable final T value) {
+    return new ProblemResult<>(value, null, null);
+  }
+
+  /**
+   * Creates a failed result for the given {@link ErrorType}.
+   *
+   * @param <T> the type of value
+   * @param errorType the error type
+   * @param detailArgs the arguments for the localized detail message
+   * @return a new failed result
+   */
+  public static <T> ProblemResult<T> failure(
+      final ErrorType errorType, @Nullable final Object... detailArgs) {
+    return failure(
+        Optional.ofNullable(errorType.getStatus()).orElse(HttpStatus.INTERNAL_SERVER_ERROR),
+        errorType.getErrorKey(),
+        errorType.getDefaultDetail(),
+        detailArgs,
+        null);
+  }
+
+  /**
+   * Creates a failed result with the given status and error details, resolved from the message
+   * source same as for an {@link ApplicationProblem}.
+   *
+   * @param <T> the type of value
+   * @param status the HTTP status
+   * @param errorKey the error key
+   * @param defaultDetail the default detail message
+   * @param detailArgs the arguments for the localized detail message
+   * @param parameters additional parameters
+   * @return a new failed result
+   */
+  public static <T> ProblemResult<T> failure(
+      final HttpStatus status,
+      final String errorKey,
+      @Nullable final String defaultDetail,
+      @Nullable final Object[] detailArgs,
+      @Nullable final Map<String, Object> parameters) {
+    Assert.notNull(status, "'status' must not be null");
+    Assert.hasText(errorKey, "'errorKey' must not be null or empty");
+    return new ProblemResult<>(
+        null,
+        status,
+        ErrorDescriptor.of(status, errorKey, defaultDetail, detailArgs, parameters).toProblem());
+  }
+
+  /**
+   * Creates a failed result with the given status and {@link Problem}.
+   *
+   * @param <T> the type of value
+   * @param status the HTTP status
+   * @param problem the problem
+   * @return a new failed result
+   */
+  public static <T> ProblemResult<T> failure(final HttpStatus status, final Problem problem) {
+    Assert.notNull(status, "'status' must not be null");
+    Assert.notNull(problem, "'problem' must not be null");
+    return new ProblemResult<>(null, status, problem);
+  }
+
+  /**
+   * Returns whether this result is successful.
+   *
+   * @return {@code true} if successful, otherwise {@code false}
+   */
+  public boolean isSuccess() {
+    return this.problem == null;
+  }
+
+  /**
+   * Returns the value, {@code null} if this result is failed.
+   *
+   * @return the value
+   */
+  public @Nullable T getValue() {
+    return this.value;
+  }
+
+  /**
+   * Returns the HTTP status, {@code null} if this result is successful.
+   *
+   * @return the HTTP status
+   */
+  public @Nullable HttpStatus getStatus() {
+    return this.status;
+  }
+
+  /**
+   * Returns the problem, {@code null} if this result is successful.
+   *
+   * @return the problem
+   */
+  public @Nullable Problem getProblem() {
+    return this.problem;
+  }
+
+  /**
+   * Maps the value of a successful result with the given function, a failed result is returned as
+   * is.
+   *
+   * @param <U> the type of mapped value
+   * @param mapper the mapping function
+   * @return the mapped result
+   */
+  @SuppressWarnings("unchecked")
+  public <U> ProblemResult<U> map(final Function<? super T, ? extends U> mapper) {
+    return isSuccess() ? success(mapper.apply(this.value)) : (ProblemResult<U>) this;
+  }
+
+  /**
+   * Returns the value of a successful result, or throws the problem of a failed one as an {@link
+   * ApplicationProblem}, for the callers that are not controllers.
+   *
+   * @return the value
+   * @throws ApplicationProblem if this result is failed
+   */
+  public @Nullable T orElseThrow() {
+    if (isSuccess()) {
+      return this.value;
+    }
+    if (this.problem instanceof ErrorKeyProblem errorKeyProblem) {
+      final ErrorDescriptor descriptor = errorKeyProblem.getDescriptor();
+      throw ApplicationProblem.of(
+          this.status,
+          descriptor.getErrorKey(),
+          descriptor.getDefaultDetail(),
+          descriptor.getDetailArgs(),
+          null,
+          descriptor.getParameters());
+    }
+    throw ApplicationProblem.of(this.status, this.problem);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return isSuccess()
+        ? "ProblemResult{" + this.value + "}"
+        : "ProblemResult{" + this.status + ", " + Problem.toString(this.problem) + "}";
+  }
+}
@@ -4,16 +4,20 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static org.springframework.core.annotation.AnnotatedElementUtils.findMergedAnnotation;
 
-import com.ksoot.problem.spring.config.ProblemBeanRegistry;
+import com.ksoot.problem.spring.config.ProblemEngine;
 import com.ksoot.problem.spring.config.ProblemMessageProvider;
 import jakarta.annotation.Nullable;
-import java.text.CharacterIterator;
-import java.text.StringCharacterIterator;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -26,6 +30,15 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @UtilityClass
 public class ProblemUtils {
 
+  // ResponseStatus annotation per exception class, looked up only once per class
+  private static final ClassValue<Optional<ResponseStatus>> RESPONSE_STATUSES =
+      new ClassValue<>() {
+        @Override
+        protected Optional<ResponseStatus> computeValue(final Class<?> type) {
+          return Optional.ofNullable(findMergedAnnotation(type, ResponseStatus.class));
+        }
+      };
+
   /**
    * Returns the status code as a string for the given {@link HttpStatusCode}.
    *
@@ -37,15 +50,88 @@ public class ProblemUtils {
   }
 
   /**
-   * Converts a {@link Throwable} to a {@link ThrowableProblem}.
+   * Converts a {@link Throwable} to a {@link ThrowableProblem}, returning it as is if already a
+   * {@code ThrowableProblem}.
    *
    * @param throwable the throwable
    * @return the throwable problem
    */
   public static ThrowableProblem toProblem(final Throwable throwable) {
+    if (throwable instanceof ThrowableProblem throwableProblem) {
+      return throwableProblem;
+    }
     final HttpStatus status = resolveStatus(throwable);
-    ThrowableProblem problem = Problems.newInstance(status).detail(throwable.getMessage()).build();
-    problem.setStackTrace(createStackTrace(throwable));
+    final boolean stackTraceNeeded = isStackTraceNeeded();
+    final ThrowableProblem problem =
+        Problems.newInstance(status)
+            .detail(throwable.getMessage())
+            .stackless(!stackTraceNeeded)
+            .build();
+    if (stackTraceNeeded) {
+      problem.setStackTrace(createStackTrace(throwable));
+    }
+    return problem;
+  }
+
+  /**
+   * Converts the cause chain of given {@link Throwable} to a chain of problems, if cause chains are
+   * enabled. The chain is walked iteratively up to {@code problem.cause-chains-max-depth} causes,
+   * stopping at a cycle, and the problems are built from the deepest cause outwards. A cause that
+   * is already a {@link ThrowableProblem} is reused as is, along with its own causes.
+   *
+   * @param throwable the throwable
+   * @return the problem for the cause, or {@code null} if no cause or cause chains are disabled
+   */
+  public static @Nullable ThrowableProblem toCauseProblem(final Throwable throwable) {
+    final ProblemEngine.Settings settings = ProblemEngine.settings();
+    Throwable cause = throwable.getCause();
+    if (cause == null || !settings.isCauseChainsEnabled()) {
+      return null;
+    }
+    final int maxDepth = settings.getCauseChainsMaxDepth();
+    final Deque<Throwable> causes = new ArrayDeque<>();
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    visited.add(throwable);
+    ThrowableProblem problem = null;
+    while (cause != null && causes.size() < maxDepth && visited.add(cause)) {
+      if (cause instanceof ThrowableProblem throwableProblem) {
+        problem = throwableProblem;
+        break;
+      }
+      causes.push(cause);
+      cause = cause.getCause();
+    }
+    final boolean stackTraceNeeded = isStackTraceNeeded();
+    while (!causes.isEmpty()) {
+      problem =
+          toCauseProblem(causes.pop(), problem, settings.isStacktraceEnabled(), stackTraceNeeded);
+    }
+    return problem;
+  }
+
+  private static ThrowableProblem toCauseProblem(
+      final Throwable cause,
+      @Nullable final ThrowableProblem next,
+      final boolean stacktraceEnabled,
+      final boolean stackTraceNeeded) {
+    final ParameterMap parameters =
+        stacktraceEnabled ? withStackTrace(ParameterMap.EMPTY, cause) : null;
+    final HttpStatus status = resolveStatus(cause);
+    final ThrowableProblem problem =
+        Problems.newInstance(statusCode(status), status.getReasonPhrase(), cause.getMessage())
+            .cause(next)
+            .stackless(!stackTraceNeeded)
+            .parameters(parameters)
+            .build();
+    if (stackTraceNeeded) {
+      // Taken along with parameters if included there, otherwise interned one is reused if any
+      problem.setStackTrace(
+          parameters != null
+                  && parameters.get(ProblemConstant.STACKTRACE_KEY)
+                      instanceof StackTraceElement[] stackTrace
+              ? stackTrace
+              : createStackTrace(cause));
+    }
     return problem;
   }
 
@@ -62,75 +148,150 @@ public class ProblemUtils {
   }
 
   /**
-   * Resolves the {@link ResponseStatus} annotation for the given {@link Throwable}.
+   * Resolves the {@link ResponseStatus} annotation for the given {@link Throwable}, walking up its
+   * cause chain until found. The annotation lookup results are cached per exception class, and
+   * cycles in cause chain are detected.
    *
    * @param type the throwable type
    * @return the response status annotation, or {@code null} if not found
    */
   public static ResponseStatus resolveResponseStatus(final Throwable type) {
-    @Nullable
-    final ResponseStatus candidate = findMergedAnnotation(type.getClass(), ResponseStatus.class);
-    return candidate == null && type.getCause() != null
-        ? resolveResponseStatus(type.getCause())
-        : candidate;
+    final Optional<ResponseStatus> status = RESPONSE_STATUSES.get(type.getClass());
+    if (status.isPresent() || type.getCause() == null) {
+      return status.orElse(null);
+    }
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    visited.add(type);
+    Throwable cause = type.getCause();
+    while (cause != null && visited.add(cause)) {
+      final Optional<ResponseStatus> causeStatus = RESPONSE_STATUSES.get(cause.getClass());
+      if (causeStatus.isPresent()) {
+        return causeStatus.get();
+      }
+      cause = cause.getCause();
+    }
+    return null;
   }
 
   /**
    * Creates a stack trace for the given {@link Throwable}, potentially filtering out trailing
-   * partial sublists if cause chains are enabled.
+   * partial sublists if cause chains are enabled, of at most {@code problem.stacktrace.max-depth}
+   * frames. Runs of framework frames are collapsed if {@code problem.stacktrace.filter-enabled} is
+   * set. If {@code problem.stacktrace.dedup-enabled} is set, the stack trace interned by the
+   * fingerprint of the throwable is returned, if any.
    *
    * @param throwable the throwable
    * @return the stack trace
    */
   public static StackTraceElement[] createStackTrace(final Throwable throwable) {
-    final Throwable cause = throwable.getCause();
-    if (cause == null || !ProblemBeanRegistry.problemProperties().isCauseChainsEnabled()) {
-      return throwable.getStackTrace();
-    } else {
-
-      final StackTraceElement[] next = cause.getStackTrace();
-      final StackTraceElement[] current = throwable.getStackTrace();
-
-      final int length =
-          current.length - Lists.lengthOfTrailingPartialSubList(asList(next), asList(current));
-      final StackTraceElement[] stackTrace = new StackTraceElement[length];
-      System.arraycopy(current, 0, stackTrace, 0, length);
-      return stackTrace;
+    final StackTraceInterner interner = ProblemEngine.stackTraceInterner();
+    return interner != null
+        ? internStackTrace(interner, throwable).getStackTrace()
+        : createStackTrace(throwable, throwable.getStackTrace());
+  }
+
+  /**
+   * Returns the given parameters along with the stack trace of the given {@link Throwable}, as
+   * created by {@link #createStackTrace(Throwable)}, under {@link ProblemConstant#STACKTRACE_KEY}.
+   * If {@code problem.stacktrace.dedup-enabled} is set, the fingerprint of the stack trace is added
+   * under {@link ProblemConstant#FINGERPRINT_KEY}, and the stack trace only on the first occurrence
+   * of the fingerprint, so that the later ones refer to it by fingerprint.
+   *
+   * @param parameters the parameters
+   * @param throwable the throwable
+   * @return the parameters with stack trace
+   */
+  public static ParameterMap withStackTrace(
+      final Map<String, Object> parameters, final Throwable throwable) {
+    final StackTraceInterner interner = ProblemEngine.stackTraceInterner();
+    final ParameterMap.Builder builder =
+        ParameterMap.builder(parameters.size() + 2).putAll(parameters);
+    if (interner == null) {
+      return builder.put(ProblemConstant.STACKTRACE_KEY, createStackTrace(throwable)).build();
+    }
+    final StackTraceInterner.Interned interned = internStackTrace(interner, throwable);
+    builder.put(ProblemConstant.FINGERPRINT_KEY, interned.getFingerprint());
+    if (interned.isFirst()) {
+      builder.put(ProblemConstant.STACKTRACE_KEY, interned.getStackTrace());
     }
+    return builder.build();
+  }
+
+  private static StackTraceInterner.Interned internStackTrace(
+      final StackTraceInterner interner, final Throwable throwable) {
+    final StackTraceElement[] current = throwable.getStackTrace();
+    final String fingerprint = interner.fingerprint(throwable.getClass(), current);
+    final StackTraceInterner.Interned interned = interner.get(fingerprint);
+    return interned != null
+        ? interned
+        : interner.intern(fingerprint, createStackTrace(throwable, current));
+  }
+
+  private static StackTraceElement[] createStackTrace(
+      final Throwable throwable, final StackTraceElement[] current) {
+    final ProblemEngine.Settings settings = ProblemEngine.settings();
+    final Throwable cause = throwable.getCause();
+    final int length =
+        cause == null || !settings.isCauseChainsEnabled()
+            ? current.length
+            : current.length
+                - Lists.lengthOfTrailingPartialSubList(
+                    asList(cause.getStackTrace()), asList(current));
+    final int depth = Math.min(length, settings.getStacktraceMaxDepth());
+    final StackTraceElement[] stackTrace =
+        depth == current.length ? current : Arrays.copyOf(current, depth);
+    final StackFrameFilter stackFrameFilter = settings.getStackFrameFilter();
+    return stackFrameFilter != null ? stackFrameFilter.process(stackTrace) : stackTrace;
+  }
+
+  /**
+   * Returns whether the stack trace of a problem converted from a throwable is needed, either to be
+   * included in error responses, as {@code problem.stacktrace-enabled} is set, or to be logged, as
+   * any of {@code problem.logging} policies logs the stack trace. Otherwise the stack trace is not
+   * taken from the throwable at all.
+   *
+   * @return {@code true} if the stack trace is needed, otherwise {@code false}
+   */
+  public static boolean isStackTraceNeeded() {
+    return ProblemEngine.settings().isStacktraceEnabled()
+        || ProblemEngine.problemLogger().isStackTraceLogged();
+  }
+
+  /**
+   * Returns whether the stack trace is to be captured for an {@link ApplicationProblem} or {@link
+   * ApplicationException}. Filling in the stack trace is skipped if the problem is requested to be
+   * stackless, or if {@code problem.stackless-enabled} is set, unless the stack trace is needed
+   * either to be included in error responses, as {@code problem.stacktrace-enabled} is set, or to
+   * be logged, as the {@code problem.logging} policy for the status logs the stack trace.
+   *
+   * @param stackless whether the problem is requested to be stackless
+   * @param status the HTTP status of the problem, {@code null} if not known
+   * @return {@code true} if the stack trace is to be captured, otherwise {@code false}
+   */
+  public static boolean isStackTraceWritable(
+      final boolean stackless, @Nullable final HttpStatus status) {
+    final ProblemEngine.Settings settings = ProblemEngine.settings();
+    return !stackless && !settings.isStacklessEnabled()
+        || settings.isStacktraceEnabled()
+        || ProblemEngine.problemLogger()
+            .isStackTraceLogged(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
   /**
-   * Returns the stack trace of the given exception as a single line string.
+   * Returns the stack trace of the given exception as a single line string, rendered by {@link
+   * StackTraceRenderer#UNBOUNDED}. Use a {@link StackTraceRenderer} to render it straight into a
+   * buffer instead, or within a budget of frames and characters.
    *
    * @param exception the exception
    * @return the single line stack trace
    */
   public static String getStackTrace(final Throwable exception) {
-    String stacktrace = ExceptionUtils.getStackTrace(exception);
-    StringBuilder escapedStacktrace = new StringBuilder(stacktrace.length() + 100);
-    StringCharacterIterator scitr = new StringCharacterIterator(stacktrace);
-
-    char current = scitr.first();
-    // DONE = \\uffff (not a character)
-    String lastAppend = null;
-    while (current != CharacterIterator.DONE) {
-      if (current == '\t' || current == '\r' || current == '\n') {
-        if (!" ".equals(lastAppend)) {
-          escapedStacktrace.append(" ");
-          lastAppend = " ";
-        }
-      } else {
-        // nothing matched - just text as it is.
-        escapedStacktrace.append(current);
-        lastAppend = "" + current;
-      }
-      current = scitr.next();
-    }
-    return escapedStacktrace.toString();
+    return StackTraceRenderer.UNBOUNDED.render(exception);
   }
 
   /**
-   * Creates a message string from the given problem details.
+   * Creates a message string from the given problem details. The detail is not localized if {@link
+   * ProblemMessageProvider} is not initialized yet.
    *
    * @param errorKey the error key
    * @param defaultDetail the default detail
@@ -148,7 +309,9 @@ public class ProblemUtils {
     final Stream<String> parts =
         Stream.of(
                 errorKey,
-                ProblemMessageProvider.getMessage(errorKey, defaultDetail, detailArgs),
+                ProblemMessageProvider.isInitialized()
+                    ? ProblemMessageProvider.getMessage(errorKey, defaultDetail, detailArgs)
+                    : defaultDetail,
                 Objects.nonNull(problem) ? Problem.toString(problem) : null,
                 Objects.nonNull(cause) ? Problem.toString(cause) : null)
             .filter(Objects::nonNull);
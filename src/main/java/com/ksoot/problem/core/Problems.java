@@ -1,16 +1,15 @@
 package com.ksoot.problem.core;
 
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
-import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 import jakarta.annotation.Nullable;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
@@ -46,6 +45,20 @@ public class Problems {
     return new Problem.ProblemBuilder(code, title, detail);
   }
 
+  /**
+   * Creates a new {@link Problem.CauseBuilder} with the given code, building a {@link
+   * DeferredProblem} whose title and detail are resolved on first access.
+   *
+   * @param code the problem code
+   * @param title the supplier of problem title
+   * @param detail the supplier of problem detail
+   * @return a new cause builder
+   */
+  public static Problem.CauseBuilder deferred(
+      final String code, final Supplier<String> title, final Supplier<String> detail) {
+    return new Problem.ProblemBuilder(code, title, detail);
+  }
+
   /**
    * Creates a new {@link DefaultDetailBuilder} for the given error key.
    *
@@ -57,14 +70,18 @@ public class Problems {
   }
 
   /**
-   * Creates a new {@link DetailArgsBuilder} for the given {@link ErrorType}.
+   * Creates a new {@link DetailArgsBuilder} for the given {@link ErrorType}, building stackless
+   * problems if the error type is {@link ErrorType#isStackless() stackless}.
    *
    * @param errorType the error type
    * @return a new detail args builder
    */
   public static DetailArgsBuilder newInstance(final ErrorType errorType) {
     return new Builder(
-        errorType.getErrorKey(), errorType.getDefaultDetail(), errorType.getStatus());
+        errorType.getErrorKey(),
+        errorType.getDefaultDetail(),
+        errorType.getStatus(),
+        errorType.isStackless());
   }
 
   // Utility methods to prepare throwables from existing problem instances
@@ -80,6 +97,17 @@ public class Problems {
     return ApplicationProblem.of(status, problem);
   }
 
+  /**
+   * Returns an {@link ApplicationProblem} for the given {@link ErrorType}, prebuilt if the error
+   * type is registered in {@link PrebuiltProblems} and stackless.
+   *
+   * @param errorType the error type
+   * @return the application problem
+   */
+  public static ApplicationProblem throwAble(final ErrorType errorType) {
+    return PrebuiltProblems.of(errorType);
+  }
+
   /**
    * Creates an {@link ApplicationException} from an existing {@link Problem}.
    *
@@ -144,21 +172,23 @@ public class Problems {
   }
 
   /**
-   * Creates an {@link ApplicationProblem} for a NOT FOUND error.
+   * Returns an {@link ApplicationProblem} for a NOT FOUND error, prebuilt and stackless unless the
+   * stack trace is needed.
    *
    * @return a not found application problem
    */
   public static ApplicationProblem notFound() {
-    return newInstance(GeneralErrorKey.NOT_FOUND).throwAble(NOT_FOUND);
+    return throwAble(GeneralErrorType.NOT_FOUND);
   }
 
   /**
-   * Creates an {@link ApplicationProblem} for an INTERNAL SERVER ERROR.
+   * Returns an {@link ApplicationProblem} for an INTERNAL SERVER ERROR, prebuilt if {@code
+   * problem.stackless-enabled} is set and the stack trace is not needed.
    *
    * @return an internal server error application problem
    */
   public static ApplicationProblem internalServerError() {
-    return newInstance(GeneralErrorKey.INTERNAL_SERVER_ERROR).throwAble(INTERNAL_SERVER_ERROR);
+    return throwAble(GeneralErrorType.INTERNAL_SERVER_ERROR);
   }
 
   // ----------- Builder -----------
@@ -222,6 +252,15 @@ public class Problems {
   /** Final step for building the throwable problem. */
   public interface ProblemBuildable {
 
+    /**
+     * Builds the problem without capturing the stack trace, which is of no use for the business
+     * errors thrown for control flow. See {@link ProblemUtils#isStackTraceWritable(boolean,
+     * HttpStatus)}.
+     *
+     * @return this builder
+     */
+    ProblemBuildable stackless();
+
     /**
      * Builds and returns an {@link ApplicationProblem} with the given status.
      *
@@ -274,16 +313,23 @@ public class Problems {
 
     private ThrowableProblem cause;
 
-    private final Map<String, Object> parameters = new LinkedHashMap<>(4);
+    private boolean stackless;
+
+    private final ParameterMap.Builder parameters = ParameterMap.builder(4);
 
     Builder(final String errorKey) {
       this.errorKey = errorKey;
     }
 
-    Builder(final String errorKey, final String defaultDetail, final HttpStatus status) {
+    Builder(
+        final String errorKey,
+        final String defaultDetail,
+        final HttpStatus status,
+        final boolean stackless) {
       this.errorKey = errorKey;
       this.defaultDetail = defaultDetail;
       this.status = status;
+      this.stackless = stackless;
     }
 
     @Override
@@ -306,8 +352,7 @@ public class Problems {
 
     @Override
     public ParameterBuilder parameter(final String key, final Object value) {
-      Assert.hasLength(key, "'key' must not be null or empty");
-      Assert.isTrue(!RESERVED_PROPERTIES.contains(key), "Property " + key + " is reserved");
+      assertNotReserved(key);
       this.parameters.put(key, value);
       return this;
     }
@@ -315,11 +360,24 @@ public class Problems {
     @Override
     public ProblemBuildable parameters(@Nullable final Map<String, Object> parameters) {
       if (MapUtils.isNotEmpty(parameters)) {
-        parameters.forEach((key, value) -> parameter(key, value));
+        parameters.forEach((key, value) -> assertNotReserved(key));
+        // ParameterMap is taken as is, instead of being copied
+        this.parameters.putAll(parameters);
       }
       return this;
     }
 
+    private static void assertNotReserved(final String key) {
+      Assert.hasLength(key, "'key' must not be null or empty");
+      Assert.isTrue(!RESERVED_PROPERTIES.contains(key), "Property " + key + " is reserved");
+    }
+
+    @Override
+    public ProblemBuildable stackless() {
+      this.stackless = true;
+      return this;
+    }
+
     @Override
     public ApplicationProblem throwAble() {
       return ApplicationProblem.of(
@@ -328,13 +386,20 @@ public class Problems {
           this.defaultDetail,
           this.detailArgs,
           this.cause,
-          this.parameters);
+          this.parameters.build(),
+          this.stackless);
     }
 
     @Override
     public ApplicationProblem throwAble(final HttpStatus status) {
       return ApplicationProblem.of(
-          status, this.errorKey, this.defaultDetail, this.detailArgs, this.cause, this.parameters);
+          status,
+          this.errorKey,
+          this.defaultDetail,
+          this.detailArgs,
+          this.cause,
+          this.parameters.build(),
+          this.stackless);
     }
 
     @Override
@@ -345,13 +410,20 @@ public class Problems {
           this.defaultDetail,
           this.detailArgs,
           this.cause,
-          this.parameters);
+          this.parameters.build(),
+          this.stackless);
     }
 
     @Override
     public ApplicationException throwAbleChecked(final HttpStatus status) {
       return ApplicationException.of(
-          status, this.errorKey, this.defaultDetail, this.detailArgs, this.cause, this.parameters);
+          status,
+          this.errorKey,
+          this.defaultDetail,
+          this.detailArgs,
+          this.cause,
+          this.parameters.build(),
+          this.stackless);
     }
   }
 }
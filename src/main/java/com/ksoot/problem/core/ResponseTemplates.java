@@ -0,0 +1,146 @@
+package com.ksoot.problem.core;
+
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded caches of response parts that are same across occurrences of a problem, such as the
+ * problem {@code type} URI, {@code Allow} and {@code Accept} header values, and the pre-rendered
+ * JSON of static members of {@link TemplatedProblemDetail}.
+ *
+ * @author Rajveer Singh
+ */
+@UtilityClass
+public class ResponseTemplates {
+
+  private static final int MAX_SIZE = 256;
+
+  private static final Map<String, Map<String, URI>> TYPE_URIS = new ConcurrentHashMap<>();
+
+  private static final Map<Set<HttpMethod>, String> ALLOW_HEADERS = new ConcurrentHashMap<>();
+
+  private static final Map<List<MediaType>, String> ACCEPT_HEADERS = new ConcurrentHashMap<>();
+
+  private static final Map<TemplateKey, byte[]> TEMPLATES = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the problem {@code type} URI for the given help page base URL and problem code.
+   *
+   * @param typeUrl the help page base URL
+   * @param code the problem code
+   * @return the type URI
+   */
+  public static URI typeUri(final String typeUrl, final String code) {
+    final Map<String, URI> typeUris = cached(TYPE_URIS, typeUrl, key -> new ConcurrentHashMap<>());
+    return cached(typeUris, code, key -> URI.create(typeUrl + "#" + key));
+  }
+
+  /**
+   * Returns the {@code Allow} header value for the given HTTP methods.
+   *
+   * @param methods the allowed HTTP methods
+   * @return the header value
+   */
+  public static String allowHeader(final Set<HttpMethod> methods) {
+    String header = ALLOW_HEADERS.get(methods);
+    if (header == null) {
+      header = StringUtils.collectionToCommaDelimitedString(methods);
+      if (ALLOW_HEADERS.size() < MAX_SIZE) {
+        ALLOW_HEADERS.putIfAbsent(Set.copyOf(methods), header);
+      }
+    }
+    return header;
+  }
+
+  /**
+   * Returns the {@code Accept} header value for the given media types.
+   *
+   * @param mediaTypes the acceptable media types
+   * @return the header value
+   */
+  public static String acceptHeader(final List<MediaType> mediaTypes) {
+    String header = ACCEPT_HEADERS.get(mediaTypes);
+    if (header == null) {
+      header = MediaType.toString(mediaTypes);
+      if (ACCEPT_HEADERS.size() < MAX_SIZE) {
+        ACCEPT_HEADERS.putIfAbsent(List.copyOf(mediaTypes), header);
+      }
+    }
+    return header;
+  }
+
+  /**
+   * Returns the pre-rendered opening of a problem JSON object, having the {@code type}, {@code
+   * title} and {@code status} members.
+   *
+   * @param type the problem type
+   * @param title the problem title
+   * @param status the HTTP status code
+   * @return UTF-8 encoded JSON, without the closing brace
+   */
+  static byte[] template(final URI type, @Nullable final String title, final int status) {
+    return cached(
+        TEMPLATES,
+        new TemplateKey(type, title, status),
+        key -> renderTemplate(type, title, status));
+  }
+
+  private static byte[] renderTemplate(
+      final URI type, @Nullable final String title, final int status) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+    try {
+      out.write('{');
+      TemplatedProblemDetail.writeString(out, "type");
+      out.write(':');
+      TemplatedProblemDetail.writeString(out, type.toString());
+      if (title != null && !title.isEmpty()) {
+        TemplatedProblemDetail.writeMember(out, "title", title);
+      }
+      out.write(',');
+      TemplatedProblemDetail.writeString(out, "status");
+      out.write(':');
+      TemplatedProblemDetail.writeAscii(out, Integer.toString(status));
+    } catch (final IOException e) {
+      // Never thrown by ByteArrayOutputStream
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  // Do not let arbitrary values coming from requests grow the caches unbounded
+  private static <K, V> V cached(
+      final Map<K, V> cache, final K key, final Function<K, V> mappingFunction) {
+    final V value = cache.get(key);
+    if (value != null) {
+      return value;
+    }
+    return cache.size() < MAX_SIZE
+        ? cache.computeIfAbsent(key, mappingFunction)
+        : mappingFunction.apply(key);
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class TemplateKey {
+
+    private final URI type;
+
+    @Nullable private final String title;
+
+    private final int status;
+  }
+}
@@ -0,0 +1,132 @@
+package com.ksoot.problem.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StackTraceProcessor} collapsing each run of framework frames, such as of servlet
+ * container, Spring AOP, CGLIB proxies and reflection, into a single "... N frames omitted" frame.
+ * Frames are told apart by the longest of given package prefixes their class name starts with, so
+ * an included prefix such as {@code org.springframework.samples.} can override a shorter excluded
+ * one such as {@code org.springframework.}. Classes generated by CGLIB are excluded unless their
+ * package is included explicitly. The top frame, where the exception is thrown, is always kept.
+ *
+ * <p>The prefixes are compiled into a character trie once, so that matching a frame takes a single
+ * pass over its class name.
+ *
+ * @author Rajveer Singh
+ */
+public final class StackFrameFilter implements StackTraceProcessor {
+
+  // Class name of the frames standing in for omitted frames
+  private static final String OMITTED_FRAMES = "...";
+
+  private static final String CGLIB_CLASS_SEPARATOR = "CGLIB$$";
+
+  private final Node root = new Node();
+
+  /**
+   * Constructs a new {@code StackFrameFilter}.
+   *
+   * @param includePrefixes the package prefixes of frames to keep
+   * @param excludePrefixes the package prefixes of frames to omit
+   */
+  public StackFrameFilter(
+      final Collection<String> includePrefixes, final Collection<String> excludePrefixes) {
+    excludePrefixes.forEach(prefix -> add(prefix, Boolean.TRUE));
+    // Added afterwards, so that an include wins over an exclude of same prefix
+    includePrefixes.forEach(prefix -> add(prefix, Boolean.FALSE));
+  }
+
+  /**
+   * Returns whether the given frame stands in for the omitted frames.
+   *
+   * @param element the stack trace element
+   * @return {@code true} if the frame stands in for omitted frames, otherwise {@code false}
+   */
+  public static boolean isOmittedFrames(final StackTraceElement element) {
+    return OMITTED_FRAMES.equals(element.getClassName());
+  }
+
+  /**
+   * Returns the string representation of the given frame, as "... N frames omitted" for the frames
+   * standing in for omitted frames.
+   *
+   * @param element the stack trace element
+   * @return the string representation
+   */
+  public static String toString(final StackTraceElement element) {
+    return isOmittedFrames(element)
+        ? OMITTED_FRAMES + " " + element.getFileName()
+        : element.toString();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Collection<StackTraceElement> process(final Collection<StackTraceElement> elements) {
+    final List<StackTraceElement> processed = new ArrayList<>(elements.size());
+    int omitted = 0;
+    for (final StackTraceElement element : elements) {
+      if (!processed.isEmpty() && isExcluded(element.getClassName())) {
+        omitted++;
+      } else {
+        if (omitted > 0) {
+          processed.add(omittedFrames(omitted));
+          omitted = 0;
+        }
+        processed.add(element);
+      }
+    }
+    if (omitted > 0) {
+      processed.add(omittedFrames(omitted));
+    }
+    return processed;
+  }
+
+  /**
+   * Processes the given stack trace.
+   *
+   * @param stackTrace the stack trace
+   * @return the processed stack trace
+   */
+  public StackTraceElement[] process(final StackTraceElement[] stackTrace) {
+    return process(Arrays.asList(stackTrace)).toArray(new StackTraceElement[0]);
+  }
+
+  private boolean isExcluded(final String className) {
+    Node node = this.root;
+    Boolean excluded = null;
+    for (int i = 0, length = className.length(); i < length && node != null; i++) {
+      node = node.children.get(className.charAt(i));
+      if (node != null && node.excluded != null) {
+        excluded = node.excluded;
+      }
+    }
+    return excluded != null ? excluded : className.contains(CGLIB_CLASS_SEPARATOR);
+  }
+
+  private void add(final String prefix, final Boolean excluded) {
+    Node node = this.root;
+    for (int i = 0; i < prefix.length(); i++) {
+      node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+    }
+    node.excluded = excluded;
+  }
+
+  private static StackTraceElement omittedFrames(final int count) {
+    return new StackTraceElement(
+        OMITTED_FRAMES, "", count + (count == 1 ? " frame omitted" : " frames omitted"), -1);
+  }
+
+  private static final class Node {
+
+    private final Map<Character, Node> children = new HashMap<>(4);
+
+    // Whether the classes matching up to this node are excluded, null if no prefix ends here
+    private Boolean excluded;
+  }
+}
@@ -0,0 +1,190 @@
+package com.ksoot.problem.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import jakarta.annotation.Nullable;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+/**
+ * Bounded table of stack traces by fingerprint, so that the stack traces of an exception repeatedly
+ * thrown from the same code path are taken only once and shared afterwards, and can be referred to
+ * by fingerprint instead of repeating the frames.
+ *
+ * <p>The fingerprint is a hash of the exception class and the class, method and position of the top
+ * frames of its stack trace, rendered as 16 hex digits. For problems built by the library, it is
+ * taken from the frames walked by {@link StackWalker}, without creating any {@link
+ * StackTraceElement} unless the stack trace is not interned yet. The stack traces differing only
+ * below the top frames share the fingerprint, and so the interned stack trace.
+ *
+ * @author Rajveer Singh
+ */
+public final class StackTraceInterner {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /** The number of top frames the fingerprint is taken from. */
+  @Getter private final int fingerprintDepth;
+
+  /** The maximum number of stack traces interned. */
+  @Getter private final long maxSize;
+
+  private final Cache<String, StackTraceElement[]> stackTraces;
+
+  /**
+   * Constructs a new {@code StackTraceInterner}.
+   *
+   * @param fingerprintDepth the number of top frames the fingerprint is taken from
+   * @param maxSize the maximum number of stack traces interned
+   */
+  public StackTraceInterner(final int fingerprintDepth, final long maxSize) {
+    this.fingerprintDepth = fingerprintDepth;
+    this.maxSize = maxSize;
+    this.stackTraces = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  /**
+   * Returns the fingerprint of given throwable, taken from its class and the top {@code depth}
+   * frames of its stack trace.
+   *
+   * @param throwable the throwable
+   * @param depth the number of top frames to take the fingerprint from
+   * @return the fingerprint
+   */
+  public static String fingerprint(final Throwable throwable, final int depth) {
+    return fingerprint(throwable.getClass(), throwable.getStackTrace(), depth);
+  }
+
+  /**
+   * Returns the fingerprint of a throwable of given type and stack trace, taken from the type and
+   * the top {@code depth} frames.
+   *
+   * @param type the type of throwable
+   * @param stackTrace the stack trace of throwable
+   * @param depth the number of top frames to take the fingerprint from
+   * @return the fingerprint
+   */
+  public static String fingerprint(
+      final Class<?> type, final StackTraceElement[] stackTrace, final int depth) {
+    long hash = mix(FNV_OFFSET, type.getName().hashCode());
+    for (int i = 0, length = Math.min(stackTrace.length, depth); i < length; i++) {
+      final StackTraceElement element = stackTrace[i];
+      hash = mix(hash, element.getClassName().hashCode());
+      hash = mix(hash, element.getMethodName().hashCode());
+      hash = mix(hash, element.getLineNumber());
+    }
+    return toHex(hash);
+  }
+
+  /**
+   * Returns the fingerprint of a throwable of given type being created at given frames, taken from
+   * the type and the top frames, up to the fingerprint depth. Only the class name, method name and
+   * bytecode index of the frames are read, so no {@link StackTraceElement} is created.
+   *
+   * @param type the type of throwable
+   * @param frames the frames walked, starting from the one creating the throwable
+   * @return the fingerprint
+   */
+  public String fingerprint(final Class<?> type, final Stream<StackWalker.StackFrame> frames) {
+    long hash = mix(FNV_OFFSET, type.getName().hashCode());
+    final Iterator<StackWalker.StackFrame> iterator =
+        frames.limit(this.fingerprintDepth).iterator();
+    while (iterator.hasNext()) {
+      final StackWalker.StackFrame frame = iterator.next();
+      hash = mix(hash, frame.getClassName().hashCode());
+      hash = mix(hash, frame.getMethodName().hashCode());
+      hash = mix(hash, frame.getByteCodeIndex());
+    }
+    return toHex(hash);
+  }
+
+  /**
+   * Returns the fingerprint of a throwable of given type and stack trace, taken from the type and
+   * the top frames, up to the fingerprint depth.
+   *
+   * @param type the type of throwable
+   * @param stackTrace the stack trace of throwable
+   * @return the fingerprint
+   */
+  public String fingerprint(final Class<?> type, final StackTraceElement[] stackTrace) {
+    return fingerprint(type, stackTrace, this.fingerprintDepth);
+  }
+
+  /**
+   * Returns the stack trace interned by given fingerprint.
+   *
+   * @param fingerprint the fingerprint
+   * @return the interned stack trace, or {@code null} if none interned by the fingerprint
+   */
+  public @Nullable Interned get(final String fingerprint) {
+    final StackTraceElement[] interned = this.stackTraces.getIfPresent(fingerprint);
+    return interned != null ? new Interned(fingerprint, interned, false) : null;
+  }
+
+  /**
+   * Interns given stack trace by given fingerprint, unless some stack trace is interned by it
+   * already, such as by a concurrent occurrence.
+   *
+   * @param fingerprint the fingerprint
+   * @param stackTrace the stack trace
+   * @return the interned stack trace, that is the given one if interned just now
+   */
+  public Interned intern(final String fingerprint, final StackTraceElement[] stackTrace) {
+    final StackTraceElement[] previous =
+        this.stackTraces.asMap().putIfAbsent(fingerprint, stackTrace);
+    return previous != null
+        ? new Interned(fingerprint, previous, false)
+        : new Interned(fingerprint, stackTrace, true);
+  }
+
+  /**
+   * Returns the statistics of the table, such as hit count.
+   *
+   * @return the table statistics
+   */
+  public CacheStats stats() {
+    return this.stackTraces.stats();
+  }
+
+  /** Discards all interned stack traces. */
+  public void clear() {
+    this.stackTraces.invalidateAll();
+  }
+
+  private static long mix(final long hash, final int value) {
+    return (hash ^ value) * FNV_PRIME;
+  }
+
+  // Final avalanche of MurmurHash3, so that all digits depend on all values mixed in
+  private static String toHex(final long hash) {
+    long h = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+    h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    final String hex = Long.toHexString(h ^ (h >>> 33));
+    return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+  }
+
+  /** A stack trace interned by fingerprint. */
+  @Getter
+  public static final class Interned {
+
+    /** The fingerprint. */
+    private final String fingerprint;
+
+    /** The interned stack trace, shared by all occurrences of the fingerprint. */
+    private final StackTraceElement[] stackTrace;
+
+    /** Whether the stack trace is interned just now, being the first occurrence seen. */
+    private final boolean first;
+
+    private Interned(
+        final String fingerprint, final StackTraceElement[] stackTrace, final boolean first) {
+      this.fingerprint = fingerprint;
+      this.stackTrace = stackTrace;
+      this.first = first;
+    }
+  }
+}
@@ -0,0 +1,260 @@
+package com.ksoot.problem.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Renders the stack trace of a throwable, along with its causes and suppressed exceptions, as a
+ * single line, in the same format as {@link Throwable#printStackTrace()} but with each run of tabs
+ * and line breaks turned into a single space. Frames are streamed straight into the given {@link
+ * Appendable}, such as a log or response buffer, without rendering the whole stack trace into a
+ * {@code String} first.
+ *
+ * <p>The frames of a cause in common with the enclosing trace are collapsed into "... N more", and
+ * a cause seen again is referred to as a circular reference. The output can be limited to a budget
+ * of frames and characters, beyond which it is cut off and ended with " ...".
+ *
+ * @author Rajveer Singh
+ */
+public final class StackTraceRenderer {
+
+  /** Renderer without any budget. */
+  public static final StackTraceRenderer UNBOUNDED =
+      new StackTraceRenderer(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  private static final String AT = " at ";
+
+  private static final String CAUSED_BY = " Caused by: ";
+
+  private static final String SUPPRESSED = " Suppressed: ";
+
+  private static final String TRUNCATED = " ...";
+
+  private final int maxFrames;
+
+  private final int maxChars;
+
+  /**
+   * Constructs a new {@code StackTraceRenderer}.
+   *
+   * @param maxFrames the maximum number of frames rendered, of the throwable and its causes
+   * @param maxChars the maximum number of characters rendered, excluding the " ..." ending
+   */
+  public StackTraceRenderer(final int maxFrames, final int maxChars) {
+    this.maxFrames = Math.max(maxFrames, 0);
+    this.maxChars = Math.max(maxChars, 0);
+  }
+
+  /**
+   * Renders the stack trace of given throwable as a single line string.
+   *
+   * @param throwable the throwable
+   * @return the single line stack trace
+   */
+  public String render(final Throwable throwable) {
+    final StringBuilder builder = new StringBuilder(Math.min(this.maxChars, 1024));
+    try {
+      render(throwable, builder);
+    } catch (final IOException e) {
+      // Never thrown by StringBuilder
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Renders the stack trace of given throwable as a single line into given {@link Appendable}.
+   *
+   * @param throwable the throwable
+   * @param appendable the appendable to render into
+   * @throws IOException if thrown by the appendable
+   */
+  public void render(final Throwable throwable, final Appendable appendable) throws IOException {
+    final Output output = new Output(appendable, this.maxFrames, this.maxChars);
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    visited.add(throwable);
+    output.appendLine(throwable.toString());
+    final StackTraceElement[] stackTrace = throwable.getStackTrace();
+    appendFrames(output, stackTrace, 0);
+    appendEnclosed(output, throwable, stackTrace, visited);
+    output.end();
+  }
+
+  // Suppressed exceptions and causes, recursively, each collapsed against the enclosing trace
+  private static void appendEnclosed(
+      final Output output,
+      final Throwable throwable,
+      final StackTraceElement[] enclosingTrace,
+      final Set<Throwable> visited)
+      throws IOException {
+    for (final Throwable suppressed : throwable.getSuppressed()) {
+      appendEnclosing(output, suppressed, enclosingTrace, SUPPRESSED, visited);
+    }
+    final Throwable cause = throwable.getCause();
+    if (cause != null) {
+      appendEnclosing(output, cause, enclosingTrace, CAUSED_BY, visited);
+    }
+  }
+
+  private static void appendEnclosing(
+      final Output output,
+      final Throwable throwable,
+      final StackTraceElement[] enclosingTrace,
+      final String caption,
+      final Set<Throwable> visited)
+      throws IOException {
+    if (output.isFull()) {
+      return;
+    }
+    if (!visited.add(throwable)) {
+      output.append(caption);
+      output.append("[CIRCULAR REFERENCE: ");
+      output.appendLine(throwable.toString());
+      output.append(']');
+      return;
+    }
+    output.append(caption);
+    output.appendLine(throwable.toString());
+    final StackTraceElement[] stackTrace = throwable.getStackTrace();
+    appendFrames(output, stackTrace, framesInCommon(stackTrace, enclosingTrace));
+    appendEnclosed(output, throwable, stackTrace, visited);
+  }
+
+  private static void appendFrames(
+      final Output output, final StackTraceElement[] stackTrace, final int framesInCommon)
+      throws IOException {
+    final int length = stackTrace.length - framesInCommon;
+    for (int i = 0; i < length; i++) {
+      if (!output.takeFrame()) {
+        return;
+      }
+      appendFrame(output, stackTrace[i]);
+    }
+    if (framesInCommon > 0) {
+      output.append(" ... ");
+      output.append(framesInCommon);
+      output.append(" more");
+    }
+  }
+
+  // Rendered by StackTraceElement#toString, so that the class loader name and module version are
+  // omitted the same way as in Throwable#printStackTrace
+  private static void appendFrame(final Output output, final StackTraceElement element)
+      throws IOException {
+    if (StackFrameFilter.isOmittedFrames(element)) {
+      output.append(" ... ");
+      output.append(element.getFileName());
+      return;
+    }
+    output.append(AT);
+    output.append(element.toString());
+  }
+
+  private static int framesInCommon(
+      final StackTraceElement[] stackTrace, final StackTraceElement[] enclosingTrace) {
+    int m = stackTrace.length - 1;
+    int n = enclosingTrace.length - 1;
+    while (m >= 0 && n >= 0 && stackTrace[m].equals(enclosingTrace[n])) {
+      m--;
+      n--;
+    }
+    return stackTrace.length - 1 - m;
+  }
+
+  // Appendable keeping to the budget, and turning tabs and line breaks into single spaces
+  private static final class Output {
+
+    private final Appendable appendable;
+
+    private int remainingFrames;
+
+    private int remainingChars;
+
+    private char last;
+
+    private boolean truncated;
+
+    private Output(final Appendable appendable, final int maxFrames, final int maxChars) {
+      this.appendable = appendable;
+      this.remainingFrames = maxFrames;
+      this.remainingChars = maxChars;
+    }
+
+    private boolean isFull() {
+      return this.truncated;
+    }
+
+    private boolean takeFrame() {
+      if (this.remainingFrames == 0) {
+        this.truncated = true;
+      }
+      if (this.truncated) {
+        return false;
+      }
+      this.remainingFrames--;
+      return true;
+    }
+
+    private void append(final String value) throws IOException {
+      if (this.truncated || value.isEmpty()) {
+        return;
+      }
+      if (value.length() <= this.remainingChars) {
+        this.appendable.append(value);
+        this.remainingChars -= value.length();
+        this.last = value.charAt(value.length() - 1);
+      } else {
+        this.appendable.append(value, 0, this.remainingChars);
+        this.remainingChars = 0;
+        this.truncated = true;
+      }
+    }
+
+    private void append(final char value) throws IOException {
+      if (this.truncated) {
+        return;
+      }
+      if (this.remainingChars == 0) {
+        this.truncated = true;
+        return;
+      }
+      this.appendable.append(value);
+      this.remainingChars--;
+      this.last = value;
+    }
+
+    // Digits appended one by one, so that no string is created for the number
+    private void append(final int value) throws IOException {
+      int divisor = 1;
+      while (value / divisor >= 10) {
+        divisor *= 10;
+      }
+      for (; divisor > 0; divisor /= 10) {
+        append((char) ('0' + value / divisor % 10));
+      }
+    }
+
+    // Text possibly spanning multiple lines, such as an exception message
+    private void appendLine(final String value) throws IOException {
+      for (int i = 0, length = value.length(); i < length && !this.truncated; i++) {
+        final char c = value.charAt(i);
+        if (c == '\t' || c == '\r' || c == '\n') {
+          if (this.last != ' ') {
+            append(' ');
+          }
+        } else {
+          append(c);
+        }
+      }
+    }
+
+    private void end() throws IOException {
+      if (this.truncated) {
+        this.appendable.append(TRUNCATED);
+      }
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.ksoot.problem.core;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * {@link DeferredProblemDetail} that can be written as JSON directly, without going through the
+ * object mapper. The {@code type}, {@code title} and {@code status} members, which are same across
+ * occurrences of a problem, are taken pre-rendered from {@link ResponseTemplates}, so only the
+ * members varying per occurrence such as {@code detail}, {@code instance}, {@code timestamp} and
+ * trace id are rendered per response.
+ *
+ * <p>It can be written directly only if all its properties are of simple types, as checked by
+ * {@link #isTemplatable()}, otherwise it should be serialized as any other {@link
+ * org.springframework.http.ProblemDetail}.
+ *
+ * @author Rajveer Singh
+ */
+@SuppressWarnings("serial")
+public class TemplatedProblemDetail extends DeferredProblemDetail {
+
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * Constructs a new {@code TemplatedProblemDetail} for the given status and problem.
+   *
+   * @param status the HTTP status
+   * @param problem the problem to take title and detail from
+   */
+  public TemplatedProblemDetail(final HttpStatusCode status, final Problem problem) {
+    super(status, problem);
+  }
+
+  /**
+   * Whether this problem detail can be written by {@link #writeTo(OutputStream)}, i.e. all its
+   * properties are either {@code null} or of simple types such as strings, integral numbers,
+   * booleans, enums, HTTP methods and {@link OffsetDateTime}s.
+   *
+   * @return {@code true} if it can be written directly, {@code false} otherwise
+   */
+  @JsonIgnore
+  public boolean isTemplatable() {
+    final Map<String, Object> properties = getProperties();
+    if (properties != null) {
+      for (final Object value : properties.values()) {
+        if (value != null && !isSimpleValue(value)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes this problem detail as UTF-8 encoded JSON to the given stream. Same as the object mapper
+   * does, standard members with {@code null} or empty values are omitted, while the properties are
+   * written as they are, {@code null} ones included.
+   *
+   * @param out the stream to write to
+   * @throws IOException in case of I/O errors
+   * @throws IllegalStateException if not {@link #isTemplatable() templatable}
+   */
+  public void writeTo(final OutputStream out) throws IOException {
+    out.write(ResponseTemplates.template(getType(), getTitle(), getStatus()));
+    final String detail = getDetail();
+    if (detail != null && !detail.isEmpty()) {
+      writeMember(out, "detail", detail);
+    }
+    final URI instance = getInstance();
+    if (instance != null) {
+      writeMember(out, "instance", instance.toString());
+    }
+    final Map<String, Object> properties = getProperties();
+    if (properties != null) {
+      for (final Map.Entry<String, Object> property : properties.entrySet()) {
+        out.write(',');
+        writeString(out, property.getKey());
+        out.write(':');
+        writeValue(out, property.getValue());
+      }
+    }
+    out.write('}');
+  }
+
+  private static boolean isSimpleValue(final Object value) {
+    return value instanceof CharSequence
+        || value instanceof Boolean
+        || value instanceof Integer
+        || value instanceof Long
+        || value instanceof Short
+        || value instanceof Byte
+        || value instanceof BigInteger
+        || value instanceof BigDecimal
+        || value instanceof Enum<?>
+        || value instanceof HttpMethod
+        || value instanceof URI
+        || value instanceof UUID
+        || value instanceof OffsetDateTime;
+  }
+
+  private static void writeValue(final OutputStream out, @Nullable final Object value)
+      throws IOException {
+    if (value == null) {
+      writeAscii(out, "null");
+    } else if (value instanceof Boolean || value instanceof Number) {
+      writeAscii(out, value.toString());
+    } else if (value instanceof Enum<?> constant) {
+      writeString(out, constant.name());
+    } else if (value instanceof HttpMethod method) {
+      writeString(out, method.name());
+    } else if (value instanceof OffsetDateTime timestamp) {
+      out.write('"');
+      writeAscii(out, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(timestamp));
+      out.write('"');
+    } else if (isSimpleValue(value)) {
+      writeString(out, value.toString());
+    } else {
+      throw new IllegalStateException(
+          "Property value of type " + value.getClass().getName() + " can not be templated");
+    }
+  }
+
+  static void writeMember(final OutputStream out, final String name, final String value)
+      throws IOException {
+    out.write(',');
+    writeString(out, name);
+    out.write(':');
+    writeString(out, value);
+  }
+
+  static void writeAscii(final OutputStream out, final String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      out.write(value.charAt(i));
+    }
+  }
+
+  /** Writes the given value as UTF-8 encoded JSON string, escaping as Jackson does by default. */
+  static void writeString(final OutputStream out, final String value) throws IOException {
+    out.write('"');
+    final int length = value.length();
+    for (int i = 0; i < length; i++) {
+      final char ch = value.charAt(i);
+      if (ch < 0x80) {
+        if (ch == '"' || ch == '\\') {
+          out.write('\\');
+          out.write(ch);
+        } else if (ch < 0x20) {
+          writeControlCharacter(out, ch);
+        } else {
+          out.write(ch);
+        }
+      } else if (ch < 0x800) {
+        out.write(0xc0 | (ch >> 6));
+        out.write(0x80 | (ch & 0x3f));
+      } else if (Character.isHighSurrogate(ch)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+        out.write(0xf0 | (codePoint >> 18));
+        out.write(0x80 | ((codePoint >> 12) & 0x3f));
+        out.write(0x80 | ((codePoint >> 6) & 0x3f));
+        out.write(0x80 | (codePoint & 0x3f));
+      } else if (Character.isSurrogate(ch)) {
+        // Unpaired surrogate, replaced same as String#getBytes does
+        out.write('?');
+      } else {
+        out.write(0xe0 | (ch >> 12));
+        out.write(0x80 | ((ch >> 6) & 0x3f));
+        out.write(0x80 | (ch & 0x3f));
+      }
+    }
+    out.write('"');
+  }
+
+  private static void writeControlCharacter(final OutputStream out, final char ch)
+      throws IOException {
+    out.write('\\');
+    switch (ch) {
+      case '\b' -> out.write('b');
+      case '\t' -> out.write('t');
+      case '\n' -> out.write('n');
+      case '\f' -> out.write('f');
+      case '\r' -> out.write('r');
+      default -> {
+        out.write('u');
+        out.write('0');
+        out.write('0');
+        out.write(HEX_DIGITS[ch >> 4]);
+        out.write(HEX_DIGITS[ch & 0xf]);
+      }
+    }
+  }
+}
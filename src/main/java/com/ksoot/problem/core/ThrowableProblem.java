@@ -1,11 +1,11 @@
 package com.ksoot.problem.core;
 
-import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 
+import com.ksoot.problem.spring.config.ProblemEngine;
 import jakarta.annotation.Nullable;
 import java.io.Serial;
-import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -21,6 +21,12 @@ public abstract class ThrowableProblem extends RuntimeException implements Probl
 
   @Serial private static final long serialVersionUID = 2893667887362253159L;
 
+  private static final StackWalker STACK_WALKER =
+      StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  // Set once constructed, until then the stack trace is not filled in natively
+  private boolean constructed;
+
   /** Constructs a new throwable problem with no cause. */
   protected ThrowableProblem() {
     this(null);
@@ -32,10 +38,36 @@ public abstract class ThrowableProblem extends RuntimeException implements Probl
    * @param cause the cause
    */
   protected ThrowableProblem(@Nullable final ThrowableProblem cause) {
-    super(cause);
-    final Collection<StackTraceElement> stackTrace =
-        StackTraceProcessor.COMPOUND.process(asList(getStackTrace()));
-    setStackTrace(stackTrace.toArray(new StackTraceElement[0]));
+    this(cause, true);
+  }
+
+  /**
+   * Constructs a new throwable problem with the given cause, capturing the stack trace only if
+   * asked to, up to {@code problem.stacktrace.max-depth} frames. Otherwise the stack trace is not
+   * writable either, same as for a {@link RuntimeException} constructed so, and stays empty.
+   *
+   * @param cause the cause
+   * @param stackTrace whether to capture the stack trace
+   */
+  protected ThrowableProblem(@Nullable final ThrowableProblem cause, final boolean stackTrace) {
+    // Message is derived from cause lazily, so that the cause is not rendered eagerly
+    super(null, cause, true, stackTrace);
+    if (stackTrace) {
+      final StackTraceInterner interner = ProblemEngine.stackTraceInterner();
+      setStackTrace(interner != null ? internStackTrace(interner) : takeStackTrace());
+    }
+    this.constructed = true;
+  }
+
+  /**
+   * Fills in the stack trace natively only if called once constructed, as the one taken while
+   * constructing is walked from the frames of the code creating the problem instead.
+   *
+   * @return this throwable problem
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this.constructed ? super.fillInStackTrace() : this;
   }
 
   /** {@inheritDoc} */
@@ -44,6 +76,13 @@ public abstract class ThrowableProblem extends RuntimeException implements Probl
     return Stream.of(getCode(), getTitle()).filter(Objects::nonNull).collect(joining(": "));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String getMessage() {
+    final ThrowableProblem cause = getCause();
+    return cause != null ? cause.toString() : null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public ThrowableProblem getCause() {
@@ -56,4 +95,39 @@ public abstract class ThrowableProblem extends RuntimeException implements Probl
   public String toString() {
     return Problem.toString(this);
   }
+
+  // Fingerprint is taken from the frames walked, and the stack trace only if not interned yet
+  private StackTraceElement[] internStackTrace(final StackTraceInterner interner) {
+    final String fingerprint =
+        STACK_WALKER.walk(frames -> interner.fingerprint(getClass(), creatorFrames(frames)));
+    final StackTraceInterner.Interned interned = interner.get(fingerprint);
+    return interned != null
+        ? interned.getStackTrace()
+        : interner.intern(fingerprint, takeStackTrace()).getStackTrace();
+  }
+
+  private static StackTraceElement[] takeStackTrace() {
+    return StackTraceProcessor.COMPOUND.process(walkStackTrace()).toArray(new StackTraceElement[0]);
+  }
+
+  // Frames of the code creating the problem, up to problem.stacktrace.max-depth
+  private static List<StackTraceElement> walkStackTrace() {
+    final int maxDepth = ProblemEngine.settings().getStacktraceMaxDepth();
+    return STACK_WALKER.walk(
+        frames ->
+            creatorFrames(frames)
+                .limit(maxDepth)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toList());
+  }
+
+  // Skips the frames of this class and the constructors of problem itself
+  private static Stream<StackWalker.StackFrame> creatorFrames(
+      final Stream<StackWalker.StackFrame> frames) {
+    return frames.dropWhile(
+        frame ->
+            frame.getDeclaringClass() == ThrowableProblem.class
+                || ("<init>".equals(frame.getMethodName())
+                    && Throwable.class.isAssignableFrom(frame.getDeclaringClass())));
+  }
 }
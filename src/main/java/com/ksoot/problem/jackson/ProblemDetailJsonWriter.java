@@ -0,0 +1,210 @@
+package com.ksoot.problem.jackson;
+
+import static com.ksoot.problem.core.ProblemConstant.CAUSE_KEY;
+import static com.ksoot.problem.core.ProblemConstant.CODE_KEY;
+import static com.ksoot.problem.core.ProblemConstant.ERRORS_KEY;
+import static com.ksoot.problem.core.ProblemConstant.FINGERPRINT_KEY;
+import static com.ksoot.problem.core.ProblemConstant.METHOD_KEY;
+import static com.ksoot.problem.core.ProblemConstant.STACKTRACE_KEY;
+import static com.ksoot.problem.core.ProblemConstant.TIMESTAMP_KEY;
+import static com.ksoot.problem.core.ProblemConstant.VIOLATIONS_KEY;
+
+import com.ksoot.problem.core.Problem;
+import com.ksoot.problem.core.StackFrameFilter;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ProblemDetail;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes {@link ProblemDetail}s straight to a {@link JsonGenerator}, producing the same JSON as
+ * serializing them through the object mapper with {@link ProblemModule} registered, but without
+ * going through bean introspection. Member names are pre-encoded, and the {@link Problem} causes,
+ * stack traces, collections and maps in properties are written directly. Any other property value
+ * is handed over to the object mapper.
+ */
+public final class ProblemDetailJsonWriter {
+
+  private static final SerializedString TYPE = new SerializedString("type");
+
+  private static final SerializedString TITLE = new SerializedString("title");
+
+  private static final SerializedString STATUS = new SerializedString("status");
+
+  private static final SerializedString DETAIL = new SerializedString("detail");
+
+  private static final SerializedString INSTANCE = new SerializedString("instance");
+
+  private static final SerializedString CODE = new SerializedString(CODE_KEY);
+
+  private static final SerializedString CAUSE = new SerializedString(CAUSE_KEY);
+
+  private static final Map<String, SerializedString> PROPERTY_NAMES =
+      Stream.of(
+              CODE_KEY,
+              METHOD_KEY,
+              TIMESTAMP_KEY,
+              CAUSE_KEY,
+              STACKTRACE_KEY,
+              FINGERPRINT_KEY,
+              VIOLATIONS_KEY,
+              ERRORS_KEY)
+          .collect(Collectors.toUnmodifiableMap(Function.identity(), SerializedString::new));
+
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Constructs a new {@code ProblemDetailJsonWriter}.
+   *
+   * @param jsonMapper the JSON mapper to write the property values of other types with
+   */
+  public ProblemDetailJsonWriter(final JsonMapper jsonMapper) {
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Writes the given problem detail as UTF-8 encoded JSON to the given stream, closing the stream
+   * afterwards.
+   *
+   * @param problemDetail the problem detail to write
+   * @param out the stream to write to
+   * @throws JacksonException in case of I/O or serialization errors
+   */
+  public void write(final ProblemDetail problemDetail, final OutputStream out)
+      throws JacksonException {
+    try (JsonGenerator generator = this.jsonMapper.createGenerator(out)) {
+      write(problemDetail, generator);
+    }
+  }
+
+  /**
+   * Writes the given problem detail as JSON object. Same as the mapper does, standard members with
+   * {@code null} or empty values are omitted, while the properties are written as they are, {@code
+   * null} ones included.
+   *
+   * @param problemDetail the problem detail to write
+   * @param generator the generator to write to
+   * @throws JacksonException in case of I/O or serialization errors
+   */
+  public void write(final ProblemDetail problemDetail, final JsonGenerator generator)
+      throws JacksonException {
+    generator.writeStartObject();
+    final URI type = problemDetail.getType();
+    if (type != null) {
+      writeString(generator, TYPE, type.toString());
+    }
+    writeString(generator, TITLE, problemDetail.getTitle());
+    if (problemDetail.getStatus() != 0) {
+      generator.writeName(STATUS);
+      generator.writeNumber(problemDetail.getStatus());
+    }
+    writeString(generator, DETAIL, problemDetail.getDetail());
+    final URI instance = problemDetail.getInstance();
+    if (instance != null) {
+      writeString(generator, INSTANCE, instance.toString());
+    }
+    writeMembers(generator, problemDetail.getProperties());
+    generator.writeEndObject();
+  }
+
+  private void writeProblem(final JsonGenerator generator, final Problem problem) {
+    generator.writeStartObject();
+    writeString(generator, CODE, problem.getCode());
+    writeString(generator, TITLE, problem.getTitle());
+    writeString(generator, DETAIL, problem.getDetail());
+    if (problem.getCause() != null) {
+      generator.writeName(CAUSE);
+      writeProblem(generator, problem.getCause());
+    }
+    writeMembers(generator, problem.getParameters());
+    generator.writeEndObject();
+  }
+
+  private void writeMembers(final JsonGenerator generator, final Map<String, Object> members) {
+    if (members == null) {
+      return;
+    }
+    for (final Map.Entry<String, Object> member : members.entrySet()) {
+      final SerializableString name = PROPERTY_NAMES.get(member.getKey());
+      if (name != null) {
+        generator.writeName(name);
+      } else {
+        generator.writeName(member.getKey());
+      }
+      writeValue(generator, member.getValue());
+    }
+  }
+
+  private void writeValue(final JsonGenerator generator, final Object value) {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String string) {
+      generator.writeString(string);
+    } else if (value instanceof Problem problem) {
+      writeProblem(generator, problem);
+    } else if (value instanceof Integer number) {
+      generator.writeNumber(number);
+    } else if (value instanceof Long number) {
+      generator.writeNumber(number);
+    } else if (value instanceof Boolean bool) {
+      generator.writeBoolean(bool);
+    } else if (value instanceof HttpMethod method) {
+      generator.writeString(method.name());
+    } else if (value instanceof StackTraceElement[] stackTrace) {
+      generator.writeStartArray(stackTrace, stackTrace.length);
+      for (final StackTraceElement element : stackTrace) {
+        generator.writeString(StackFrameFilter.toString(element));
+      }
+      generator.writeEndArray();
+    } else if (value instanceof Collection<?> collection) {
+      generator.writeStartArray(collection, collection.size());
+      for (final Object element : collection) {
+        writeValue(generator, element);
+      }
+      generator.writeEndArray();
+    } else if (value instanceof Object[] array) {
+      generator.writeStartArray(array, array.length);
+      for (final Object element : array) {
+        writeValue(generator, element);
+      }
+      generator.writeEndArray();
+    } else if (value instanceof Map<?, ?> map && isStringKeyed(map)) {
+      generator.writeStartObject(map, map.size());
+      for (final Map.Entry<?, ?> entry : map.entrySet()) {
+        generator.writeName((String) entry.getKey());
+        writeValue(generator, entry.getValue());
+      }
+      generator.writeEndObject();
+    } else {
+      // Dates, view models and the like, written honouring the mapper's configuration
+      generator.writePOJO(value);
+    }
+  }
+
+  private static boolean isStringKeyed(final Map<?, ?> map) {
+    for (final Object key : map.keySet()) {
+      if (!(key instanceof String)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void writeString(
+      final JsonGenerator generator, final SerializableString name, final String value) {
+    if (value != null && !value.isEmpty()) {
+      generator.writeName(name);
+      generator.writeString(value);
+    }
+  }
+}
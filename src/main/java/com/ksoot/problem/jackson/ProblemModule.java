@@ -14,7 +14,6 @@ import tools.jackson.core.util.VersionUtil;
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.databind.module.SimpleDeserializers;
 import tools.jackson.databind.module.SimpleSerializers;
-import tools.jackson.databind.ser.std.ToStringSerializer;
 
 /** Jackson module to serialize and deserialize Problem classes. */
 public final class ProblemModule extends JacksonModule {
@@ -92,8 +91,7 @@ public final class ProblemModule extends JacksonModule {
     final SimpleSerializers serializers = new SimpleSerializers();
     serializers.addSerializer(HttpStatusCode.class, new HttpStatusSerializer());
     serializers.addSerializer(HttpMethod.class, new HttpMethodSerializer());
-    serializers.addSerializer(
-        StackTraceElement.class, new ToStringSerializer(StackTraceElement.class));
+    serializers.addSerializer(StackTraceElement.class, new StackTraceElementSerializer());
     context.addSerializers(serializers);
 
     final SimpleDeserializers deserializers = new SimpleDeserializers();
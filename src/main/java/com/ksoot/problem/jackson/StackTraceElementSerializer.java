@@ -0,0 +1,29 @@
+package com.ksoot.problem.jackson;
+
+import com.ksoot.problem.core.StackFrameFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link StackTraceElement}, writing its string representation, or "... N
+ * frames omitted" for the frames standing in for frames omitted by {@link StackFrameFilter}.
+ */
+final class StackTraceElementSerializer extends StdSerializer<StackTraceElement> {
+
+  /** Constructs a new {@link StackTraceElement} serializer. */
+  StackTraceElementSerializer() {
+    super(StackTraceElement.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void serialize(
+      final StackTraceElement element,
+      final JsonGenerator json,
+      final SerializationContext provider)
+      throws JacksonException {
+    json.writeString(StackFrameFilter.toString(element));
+  }
+}
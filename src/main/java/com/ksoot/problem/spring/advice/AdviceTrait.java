@@ -7,22 +7,25 @@ import static com.ksoot.problem.core.ProblemConstant.STATUS_RESOLVER;
 import static com.ksoot.problem.core.ProblemConstant.TITLE_RESOLVER;
 
 import com.ksoot.problem.core.ErrorResponseBuilder;
+import com.ksoot.problem.core.ParameterMap;
 import com.ksoot.problem.core.Problem;
 import com.ksoot.problem.core.ProblemConstant;
 import com.ksoot.problem.core.ProblemUtils;
 import com.ksoot.problem.core.Problems;
 import com.ksoot.problem.core.ThrowableProblem;
-import com.ksoot.problem.spring.config.ProblemBeanRegistry;
+import com.ksoot.problem.spring.config.ProblemEngine;
 import com.ksoot.problem.spring.config.ProblemMessageProvider;
 import com.ksoot.problem.spring.config.ProblemMessageSourceResolver;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import com.ksoot.problem.spring.config.ProblemTemplateCache;
+import com.ksoot.problem.spring.config.ProblemTemplateCache.Template;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import org.apache.commons.lang3.ClassUtils;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
@@ -44,19 +47,8 @@ public interface AdviceTrait<T, R> {
    * @return the resolved status
    */
   default HttpStatus resolveStatus(final Throwable throwable) {
-    HttpStatus defaultStatus = HttpStatus.valueOf(ProblemUtils.resolveStatus(throwable).value());
-    String errorKey = ClassUtils.getName(throwable);
-    ProblemMessageSourceResolver defaultStatusResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.STATUS_CODE_PREFIX + errorKey, defaultStatus.value());
-    HttpStatus status = defaultStatus;
-    try {
-      int statusCode = Integer.parseInt(ProblemMessageProvider.getMessage(defaultStatusResolver));
-      status = HttpStatus.valueOf(statusCode);
-    } catch (final Exception e) {
-      // Ignore on purpose
-    }
-    return status;
+    return ProblemTemplateCache.getStatusOverride(throwable.getClass())
+        .orElseGet(() -> ProblemUtils.resolveStatus(throwable));
   }
 
   // ------ Create problem from exceptions ------
@@ -70,40 +62,40 @@ public interface AdviceTrait<T, R> {
    */
   default Problem toProblem(
       final Throwable throwable, final String defaultErrorKey, final HttpStatus status) {
-
-    String errorKey = ClassUtils.getName(throwable);
-
-    ProblemMessageSourceResolver defaultCodeResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.CODE_CODE_PREFIX + defaultErrorKey, status.value());
-    ProblemMessageSourceResolver defaultTitleResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.TITLE_CODE_PREFIX + defaultErrorKey, status.getReasonPhrase());
-    ProblemMessageSourceResolver defaultDetailResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.DETAIL_CODE_PREFIX + defaultErrorKey, throwable.getMessage());
-
-    ProblemMessageSourceResolver codeResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.CODE_CODE_PREFIX + errorKey,
-            ProblemMessageProvider.getMessage(defaultCodeResolver));
-    ProblemMessageSourceResolver titleResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.TITLE_CODE_PREFIX + errorKey,
-            ProblemMessageProvider.getMessage(defaultTitleResolver));
-    ProblemMessageSourceResolver detailResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.DETAIL_CODE_PREFIX + errorKey,
-            ProblemMessageProvider.getMessage(defaultDetailResolver));
-    ProblemMessageSourceResolver statusResolver =
-        ProblemMessageSourceResolver.of(
-            ProblemConstant.STATUS_CODE_PREFIX + errorKey, status.value());
-
-    return toProblem(throwable, codeResolver, titleResolver, detailResolver, statusResolver);
+    final Template template =
+        ProblemTemplateCache.getTemplate(throwable.getClass(), defaultErrorKey, status);
+    // Exception message can be expensive to build, so taken only if the detail is rendered
+    final Supplier<String> detail =
+        template.getDetail() != null ? template::getDetail : throwable::getMessage;
+
+    final ParameterMap parameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.builder(4)
+                .put(
+                    CODE_RESOLVER,
+                    ProblemMessageSourceResolver.of(
+                        template.getCodeCode(), template.getDefaultCode()))
+                .put(
+                    TITLE_RESOLVER,
+                    ProblemMessageSourceResolver.of(
+                        template.getTitleCode(), template.getDefaultTitle()))
+                .put(
+                    DETAIL_RESOLVER,
+                    ProblemMessageSourceResolver.of(
+                        template.getDetailCode(),
+                        template.getDefaultDetail() != null
+                            ? template.getDefaultDetail()
+                            : throwable.getMessage()))
+                .put(
+                    STATUS_RESOLVER,
+                    ProblemMessageSourceResolver.of(template.getStatusCode(), status.value()))
+                .build()
+            : ParameterMap.EMPTY;
+    return toProblem(throwable, template.getCode(), template::getTitle, detail, parameters);
   }
 
   default ThrowableProblem toProblem(final Throwable throwable) {
-    HttpStatus status = HttpStatus.valueOf(ProblemUtils.resolveStatus(throwable).value());
+    HttpStatus status = ProblemUtils.resolveStatus(throwable);
     return toProblem(throwable, status);
   }
 
@@ -118,7 +110,7 @@ public interface AdviceTrait<T, R> {
 
   default ThrowableProblem toProblem(
       final Throwable throwable, final String code, final String title, final String detail) {
-    return toProblem(throwable, code, title, detail, new LinkedHashMap<>());
+    return toProblem(throwable, code, title, detail, ParameterMap.EMPTY);
   }
 
   default ThrowableProblem toProblem(
@@ -128,8 +120,29 @@ public interface AdviceTrait<T, R> {
       final String detail,
       final Map<String, Object> parameters) {
     final ThrowableProblem problem = buildProblem(throwable, code, title, detail, parameters);
-    final StackTraceElement[] stackTrace = ProblemUtils.createStackTrace(throwable);
-    problem.setStackTrace(stackTrace);
+    setStackTrace(problem, throwable);
+    return problem;
+  }
+
+  /**
+   * Converts a throwable to a {@link Problem} whose title and detail are resolved only when
+   * rendered.
+   *
+   * @param throwable the throwable
+   * @param code the problem code
+   * @param title the supplier of problem title
+   * @param detail the supplier of problem detail
+   * @param parameters additional parameters
+   * @return the problem
+   */
+  default ThrowableProblem toProblem(
+      final Throwable throwable,
+      final String code,
+      final Supplier<String> title,
+      final Supplier<String> detail,
+      final Map<String, Object> parameters) {
+    final ThrowableProblem problem = buildProblem(throwable, code, title, detail, parameters);
+    setStackTrace(problem, throwable);
     return problem;
   }
 
@@ -146,12 +159,11 @@ public interface AdviceTrait<T, R> {
       final String code,
       final String title,
       final MessageSourceResolvable detailResolver) {
-    Map<String, Object> parameters = new LinkedHashMap<>();
-    if (ProblemBeanRegistry.problemProperties().isDebugEnabled()) {
-      parameters.put(DETAIL_RESOLVER, detailResolver);
-    }
-    return toProblem(
-        throwable, code, title, ProblemMessageProvider.getMessage(detailResolver), parameters);
+    final Map<String, Object> parameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.of(DETAIL_RESOLVER, detailResolver)
+            : ParameterMap.EMPTY;
+    return toProblem(throwable, code, () -> title, deferredMessage(detailResolver), parameters);
   }
 
   default ThrowableProblem toProblem(
@@ -159,16 +171,15 @@ public interface AdviceTrait<T, R> {
       final String code,
       final MessageSourceResolvable titleResolver,
       final MessageSourceResolvable detailResolver) {
-    Map<String, Object> parameters = new LinkedHashMap<>();
-    if (ProblemBeanRegistry.problemProperties().isDebugEnabled()) {
-      parameters.put(TITLE_RESOLVER, titleResolver);
-      parameters.put(DETAIL_RESOLVER, detailResolver);
-    }
+    final Map<String, Object> parameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.of(TITLE_RESOLVER, titleResolver, DETAIL_RESOLVER, detailResolver)
+            : ParameterMap.EMPTY;
     return toProblem(
         throwable,
         code,
-        ProblemMessageProvider.getMessage(titleResolver),
-        ProblemMessageProvider.getMessage(detailResolver),
+        deferredMessage(titleResolver),
+        deferredMessage(detailResolver),
         parameters);
   }
 
@@ -177,7 +188,7 @@ public interface AdviceTrait<T, R> {
       final MessageSourceResolvable codeResolver,
       final MessageSourceResolvable titleResolver,
       final MessageSourceResolvable detailResolver) {
-    return toProblem(throwable, codeResolver, titleResolver, detailResolver, new LinkedHashMap<>());
+    return toProblem(throwable, codeResolver, titleResolver, detailResolver, ParameterMap.EMPTY);
   }
 
   default ThrowableProblem toProblem(
@@ -186,17 +197,22 @@ public interface AdviceTrait<T, R> {
       final MessageSourceResolvable titleResolver,
       final MessageSourceResolvable detailResolver,
       final Map<String, Object> parameters) {
-    if (ProblemBeanRegistry.problemProperties().isDebugEnabled()) {
-      parameters.put(CODE_RESOLVER, codeResolver);
-      parameters.put(TITLE_RESOLVER, titleResolver);
-      parameters.put(DETAIL_RESOLVER, detailResolver);
-    }
+    // Given parameters are not modified, as these may be immutable
+    final Map<String, Object> problemParameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.builder(parameters.size() + 3)
+                .putAll(parameters)
+                .put(CODE_RESOLVER, codeResolver)
+                .put(TITLE_RESOLVER, titleResolver)
+                .put(DETAIL_RESOLVER, detailResolver)
+                .build()
+            : parameters;
     return toProblem(
         throwable,
         ProblemMessageProvider.getMessage(codeResolver),
-        ProblemMessageProvider.getMessage(titleResolver),
-        ProblemMessageProvider.getMessage(detailResolver),
-        parameters);
+        deferredMessage(titleResolver),
+        deferredMessage(detailResolver),
+        problemParameters);
   }
 
   default ThrowableProblem toProblem(
@@ -205,18 +221,20 @@ public interface AdviceTrait<T, R> {
       final MessageSourceResolvable titleResolver,
       final MessageSourceResolvable detailResolver,
       final MessageSourceResolvable statusResolver) {
-    Map<String, Object> parameters = new LinkedHashMap<>();
-    if (ProblemBeanRegistry.problemProperties().isDebugEnabled()) {
-      parameters.put(CODE_RESOLVER, codeResolver);
-      parameters.put(TITLE_RESOLVER, titleResolver);
-      parameters.put(DETAIL_RESOLVER, detailResolver);
-      parameters.put(STATUS_RESOLVER, statusResolver);
-    }
+    final ParameterMap parameters =
+        ProblemEngine.settings().isDebugEnabled()
+            ? ParameterMap.builder(4)
+                .put(CODE_RESOLVER, codeResolver)
+                .put(TITLE_RESOLVER, titleResolver)
+                .put(DETAIL_RESOLVER, detailResolver)
+                .put(STATUS_RESOLVER, statusResolver)
+                .build()
+            : ParameterMap.EMPTY;
     return toProblem(
         throwable,
         ProblemMessageProvider.getMessage(codeResolver),
-        ProblemMessageProvider.getMessage(titleResolver),
-        ProblemMessageProvider.getMessage(detailResolver),
+        deferredMessage(titleResolver),
+        deferredMessage(detailResolver),
         parameters);
   }
 
@@ -237,7 +255,7 @@ public interface AdviceTrait<T, R> {
         ProblemMessageSourceResolver.of(titleCode, status.getReasonPhrase()),
         ProblemMessageSourceResolver.of(
             detailCode, Optional.ofNullable(defaultDetail).orElse(detailCode), detailArgs),
-        Optional.ofNullable(parameters).orElse(Collections.emptyMap()));
+        parameters != null ? parameters : ParameterMap.EMPTY);
   }
 
   default ThrowableProblem buildProblem(
@@ -246,20 +264,60 @@ public interface AdviceTrait<T, R> {
       final String title,
       final String detail,
       final Map<String, Object> parameters) {
-    if (ProblemBeanRegistry.problemProperties().isStacktraceEnabled()) {
-      final StackTraceElement[] stackTrace = ProblemUtils.createStackTrace(throwable);
-      parameters.put(STACKTRACE_KEY, stackTrace);
-    }
+    final Map<String, Object> problemParameters =
+        ProblemEngine.settings().isStacktraceEnabled()
+            ? ProblemUtils.withStackTrace(parameters, throwable)
+            : parameters;
     return Problems.newInstance(code, title, detail)
-        .cause(
-            Optional.ofNullable(throwable.getCause())
-                .filter(cause -> ProblemBeanRegistry.problemProperties().isCauseChainsEnabled())
-                .map(this::toProblem)
-                .orElse(null))
-        .parameters(Collections.unmodifiableMap(parameters))
+        .cause(ProblemUtils.toCauseProblem(throwable))
+        .stackless(!ProblemUtils.isStackTraceNeeded())
+        .parameters(problemParameters)
+        .build();
+  }
+
+  /**
+   * Builds a {@link ThrowableProblem} whose title and detail are resolved only when rendered.
+   *
+   * @param throwable the throwable
+   * @param code the problem code
+   * @param title the supplier of problem title
+   * @param detail the supplier of problem detail
+   * @param parameters additional parameters
+   * @return the problem
+   */
+  default ThrowableProblem buildProblem(
+      final Throwable throwable,
+      final String code,
+      final Supplier<String> title,
+      final Supplier<String> detail,
+      final Map<String, Object> parameters) {
+    final Map<String, Object> problemParameters =
+        ProblemEngine.settings().isStacktraceEnabled()
+            ? ProblemUtils.withStackTrace(parameters, throwable)
+            : parameters;
+    return Problems.deferred(code, title, detail)
+        .cause(ProblemUtils.toCauseProblem(throwable))
+        .stackless(!ProblemUtils.isStackTraceNeeded())
+        .parameters(problemParameters)
         .build();
   }
 
+  // Stack trace of the throwable, taken only if needed and reused from parameters if present there
+  private static void setStackTrace(final ThrowableProblem problem, final Throwable throwable) {
+    if (ProblemUtils.isStackTraceNeeded()) {
+      problem.setStackTrace(
+          problem.getParameters().get(STACKTRACE_KEY) instanceof StackTraceElement[] stackTrace
+              ? stackTrace
+              : ProblemUtils.createStackTrace(throwable));
+    }
+  }
+
+  // Captures the current locale, as the message may be resolved on some other thread
+  private static Supplier<String> deferredMessage(final MessageSourceResolvable resolvable) {
+    final Locale locale = LocaleContextHolder.getLocale();
+    return () -> ProblemMessageProvider.getMessage(resolvable, locale);
+  }
+
   // ------ Create Error response from Problems ------
   /**
    * Converts a throwable to Error response.
@@ -269,7 +327,7 @@ public interface AdviceTrait<T, R> {
    * @return the response
    */
   default R toResponse(final Throwable throwable, final T request) {
-    HttpStatus status = HttpStatus.valueOf(ProblemUtils.resolveStatus(throwable).value());
+    HttpStatus status = ProblemUtils.resolveStatus(throwable);
     return toResponse(throwable, request, status, toProblem(throwable));
   }
 
@@ -332,28 +390,43 @@ public interface AdviceTrait<T, R> {
       final HttpStatus status,
       final HttpHeaders headers,
       final Problem problem) {
-    log(throwable, status);
+    log(throwable, status, problem);
     return errorResponseBuilder().buildResponse(throwable, request, status, headers, problem);
   }
 
   /**
-   * Logs the throwable and status.
+   * Logs the throwable as per the logging policy for the problem code if any, otherwise for the
+   * status, see {@code problem.logging} properties. Called for each error response built.
+   *
+   * <p>Calls {@link #log(Throwable, HttpStatus)} instead if overridden by the advice, so that the
+   * overrides of it keep working.
    *
    * @param throwable the throwable
    * @param status the HTTP status
+   * @param problem the problem, {@code null} if not known
    */
-  default void log(final Throwable throwable, final HttpStatus status) {
-    logger.error(status.getReasonPhrase(), throwable);
-    // throwable.printStackTrace();
+  @SuppressWarnings("deprecation")
+  default void log(final Throwable throwable, final HttpStatus status, final Problem problem) {
+    if (LegacyLogHook.isOverridden(getClass())) {
+      log(throwable, status);
+    } else {
+      ProblemEngine.problemLogger()
+          .log(logger, throwable, status, problem != null ? problem.getCode() : null);
+    }
   }
 
-  // default void log(final Throwable throwable, final HttpStatus status) {
-  // if (status.is4xxClientError()) {
-  // logger.warn("{}: {}", status.getReasonPhrase(), throwable.getMessage());
-  // } else if (status.is5xxServerError()) {
-  // logger.error(status.getReasonPhrase(), throwable);
-  // }
-  // }
+  /**
+   * Logs the throwable as per the logging policy for the status.
+   *
+   * @param throwable the throwable
+   * @param status the HTTP status
+   * @deprecated override {@link #log(Throwable, HttpStatus, Problem)} instead, that is given the
+   *     problem as well. Still called for each error response built if overridden.
+   */
+  @Deprecated
+  default void log(final Throwable throwable, final HttpStatus status) {
+    ProblemEngine.problemLogger().log(logger, throwable, status, null);
+  }
 
   // ErrorResponseBuilder can have different implementations as per consumer needs, So
   // can be overridden.
@@ -363,8 +436,7 @@ public interface AdviceTrait<T, R> {
    *
    * @return the error response builder
    */
-  @SuppressWarnings("unchecked")
   default ErrorResponseBuilder<T, R> errorResponseBuilder() {
-    return (ErrorResponseBuilder<T, R>) ProblemBeanRegistry.errorResponseBuilder();
+    return ProblemEngine.errorResponseBuilder();
   }
 }
@@ -0,0 +1,33 @@
+package com.ksoot.problem.spring.advice;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Tells whether an advice overrides the deprecated {@link AdviceTrait#log(Throwable, HttpStatus)},
+ * so that such an override keeps being called for each error response built.
+ *
+ * @author Rajveer Singh
+ */
+final class LegacyLogHook {
+
+  private static final ClassValue<Boolean> OVERRIDDEN =
+      new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+          try {
+            return type.getMethod("log", Throwable.class, HttpStatus.class).getDeclaringClass()
+                != AdviceTrait.class;
+          } catch (final NoSuchMethodException | SecurityException e) {
+            return false;
+          }
+        }
+      };
+
+  private LegacyLogHook() {
+    throw new IllegalStateException("Just a utility class, not supposed to be instantiated");
+  }
+
+  static boolean isOverridden(final Class<?> adviceType) {
+    return OVERRIDDEN.get(adviceType);
+  }
+}
@@ -0,0 +1,210 @@
+package com.ksoot.problem.spring.advice;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+/**
+ * Dispatch table from exception type to the {@link ExceptionHandler} method of a {@link
+ * AdviceTrait} implementing controller advice bean, computed once per exception type, so that
+ * exceptions can be handled without going through the generic exception handler method resolution
+ * and invocation.
+ *
+ * <p>No handler is returned for an exception, so that it is handled as usual, if it can be handled
+ * by any {@link ExceptionHandler} method either of a controller advice not implementing {@link
+ * AdviceTrait}, i.e. defined by application, or of the controller itself. Same as Spring, the
+ * exception handler methods of application defined controller advices are matched against the
+ * causes of the exception as well. So the custom exception handlers always take precedence. Neither
+ * is a handler returned if its method can not be bound, such as of a non-public advice, in which
+ * case the exception is handled as usual too.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemHandlerDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProblemHandlerDispatcher.class);
+
+  private static final MethodType HANDLER_TYPE =
+      MethodType.methodType(Object.class, Throwable.class, Object.class);
+
+  // Bounds the walk of the cause chain, in case of a cycle
+  private static final int MAX_CAUSE_DEPTH = 32;
+
+  private final Class<?> requestType;
+
+  private final List<Advice> problemAdvices = new ArrayList<>();
+
+  private final List<ExceptionHandlerMethodResolver> otherAdvices = new ArrayList<>();
+
+  private final ClassValue<Optional<Handler>> handlers =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Optional<Handler> computeValue(final Class<?> type) {
+          return Optional.ofNullable(resolveHandler((Class<? extends Throwable>) type));
+        }
+      };
+
+  private final ClassValue<Boolean> otherHandlers =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Boolean computeValue(final Class<?> type) {
+          for (final ExceptionHandlerMethodResolver resolver : otherAdvices) {
+            if (resolver.resolveMethodByExceptionType((Class<? extends Throwable>) type) != null) {
+              return true;
+            }
+          }
+          return false;
+        }
+      };
+
+  private final ClassValue<Boolean> localHandlers =
+      new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+          return new ExceptionHandlerMethodResolver(type).hasExceptionMappings();
+        }
+      };
+
+  /**
+   * Constructs a new {@code ProblemHandlerDispatcher} for the controller advice beans in given
+   * application context.
+   *
+   * @param applicationContext the application context
+   * @param requestType the type of request passed to exception handler methods
+   */
+  public ProblemHandlerDispatcher(
+      final ApplicationContext applicationContext, final Class<?> requestType) {
+    this.requestType = requestType;
+    for (final ControllerAdviceBean adviceBean :
+        ControllerAdviceBean.findAnnotatedBeans(applicationContext)) {
+      final Class<?> beanType = adviceBean.getBeanType();
+      if (beanType == null) {
+        continue;
+      }
+      final ExceptionHandlerMethodResolver resolver = new ExceptionHandlerMethodResolver(beanType);
+      if (!resolver.hasExceptionMappings()) {
+        continue;
+      }
+      if (AdviceTrait.class.isAssignableFrom(beanType)) {
+        this.problemAdvices.add(new Advice(adviceBean, resolver));
+      } else {
+        this.otherAdvices.add(resolver);
+      }
+    }
+  }
+
+  /**
+   * Returns the handler for the given exception thrown by given handler.
+   *
+   * @param exception the exception to be handled
+   * @param handlerType the type of handler that threw the exception, if any
+   * @return the handler, or {@code null} if the exception should be handled as usual
+   */
+  public @Nullable Handler handlerFor(
+      final Throwable exception, @Nullable final Class<?> handlerType) {
+    if ((handlerType != null && this.localHandlers.get(handlerType))
+        || isHandledByOtherAdvices(exception)) {
+      return null;
+    }
+    final Handler handler = this.handlers.get(exception.getClass()).orElse(null);
+    if (handler == null
+        || (handlerType != null && !handler.adviceBean.isApplicableToBeanType(handlerType))) {
+      return null;
+    }
+    return handler;
+  }
+
+  // Same as ExceptionHandlerMethodResolver#resolveMethodByThrowable, matching the causes as well
+  private boolean isHandledByOtherAdvices(final Throwable exception) {
+    if (this.otherAdvices.isEmpty()) {
+      return false;
+    }
+    Throwable throwable = exception;
+    for (int depth = 0; throwable != null && depth < MAX_CAUSE_DEPTH; depth++) {
+      if (this.otherHandlers.get(throwable.getClass())) {
+        return true;
+      }
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+
+  private @Nullable Handler resolveHandler(final Class<? extends Throwable> exceptionType) {
+    for (final Advice advice : this.problemAdvices) {
+      final Method method = advice.resolver.resolveMethodByExceptionType(exceptionType);
+      if (method != null) {
+        // Methods with other than exception and request parameters are left to be invoked as usual
+        if (!isDispatchable(method)) {
+          return null;
+        }
+        final MethodHandle methodHandle = toMethodHandle(advice.adviceBean, method);
+        return methodHandle != null ? new Handler(advice.adviceBean, methodHandle) : null;
+      }
+    }
+    return null;
+  }
+
+  private boolean isDispatchable(final Method method) {
+    final Class<?>[] parameterTypes = method.getParameterTypes();
+    return parameterTypes.length == 2
+        && Throwable.class.isAssignableFrom(parameterTypes[0])
+        && parameterTypes[1].isAssignableFrom(this.requestType);
+  }
+
+  // Not bound if the method is not accessible or the advice bean can not be resolved
+  private static @Nullable MethodHandle toMethodHandle(
+      final ControllerAdviceBean adviceBean, final Method method) {
+    try {
+      return MethodHandles.publicLookup()
+          .unreflect(method)
+          .bindTo(adviceBean.resolveBean())
+          .asType(HANDLER_TYPE);
+    } catch (final IllegalAccessException | RuntimeException e) {
+      logger.debug("Exception handler method left to be invoked as usual: " + method, e);
+      return null;
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class Advice {
+
+    private final ControllerAdviceBean adviceBean;
+
+    private final ExceptionHandlerMethodResolver resolver;
+  }
+
+  /** An exception handler method bound to its controller advice bean. */
+  @RequiredArgsConstructor
+  public static final class Handler {
+
+    private final ControllerAdviceBean adviceBean;
+
+    private final MethodHandle method;
+
+    /**
+     * Handles the given exception.
+     *
+     * @param exception the exception to be handled
+     * @param request the request, of type expected by {@link AdviceTrait}
+     * @return the error response
+     * @throws Throwable if thrown by the exception handler method
+     */
+    public Object handle(final Throwable exception, final Object request) throws Throwable {
+      return this.method.invokeExact(exception, request);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.ksoot.problem.spring.advice;
+
+import com.ksoot.problem.core.ProblemResult;
+import java.lang.reflect.Type;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Return type of a controller method returning {@link ProblemResult}, as seen by the return value
+ * handlers the result is delegated to once converted to a {@link ResponseEntity}. Retains the
+ * method and its annotations, with only the type changed.
+ *
+ * @author Rajveer Singh
+ */
+public final class ProblemResultReturnType extends MethodParameter {
+
+  /** Type of the response entity a failed {@link ProblemResult} is converted to. */
+  public static final Type PROBLEM_RESPONSE_TYPE =
+      ResolvableType.forClassWithGenerics(ResponseEntity.class, ProblemDetail.class).getType();
+
+  private final Type type;
+
+  /**
+   * Constructs a new {@code ProblemResultReturnType}.
+   *
+   * @param original the return type of the controller method
+   * @param type the type to be seen by the return value handlers
+   */
+  public ProblemResultReturnType(final MethodParameter original, final Type type) {
+    super(original);
+    this.type = type;
+  }
+
+  private ProblemResultReturnType(final ProblemResultReturnType original) {
+    super(original);
+    this.type = original.type;
+  }
+
+  /**
+   * Returns the type of the response entity the value of a successful {@link ProblemResult} is
+   * converted to, that is the value type itself if it is an {@link HttpEntity}, otherwise {@code
+   * ResponseEntity} of value type.
+   *
+   * @param returnType the return type of the controller method, {@code ProblemResult} or a reactive
+   *     type of it
+   * @return the response entity type
+   */
+  public static Type successResponseType(final MethodParameter returnType) {
+    ResolvableType resultType = ResolvableType.forMethodParameter(returnType);
+    if (!ProblemResult.class.isAssignableFrom(resultType.toClass())) {
+      resultType = resultType.getGeneric(0);
+    }
+    final ResolvableType valueType = resultType.as(ProblemResult.class).getGeneric(0);
+    return HttpEntity.class.isAssignableFrom(valueType.toClass())
+        ? valueType.getType()
+        : ResolvableType.forClassWithGenerics(ResponseEntity.class, valueType).getType();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Class<?> getParameterType() {
+    return ResolvableType.forType(this.type).toClass();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Type getGenericParameterType() {
+    return this.type;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ProblemResultReturnType clone() {
+    return new ProblemResultReturnType(this);
+  }
+}
@@ -5,7 +5,7 @@ import static com.ksoot.problem.core.ProblemConstant.DETAIL_CODE_PREFIX;
 import static com.ksoot.problem.core.ProblemConstant.ERRORS_KEY;
 import static com.ksoot.problem.core.ProblemConstant.TITLE_CODE_PREFIX;
 
-import com.google.common.collect.Lists;
+import com.ksoot.problem.core.ErrorDescriptor;
 import com.ksoot.problem.core.GeneralErrorKey;
 import com.ksoot.problem.core.MultiProblem;
 import com.ksoot.problem.core.Problem;
@@ -35,7 +35,9 @@ public interface ApplicationMultiProblemAdviceTrait<T, R> extends AdviceTrait<T,
 
   /**
    * Handles {@link MultiProblem} and converts it into a {@link Problem} response containing
-   * multiple errors.
+   * multiple errors. {@link ErrorDescriptor}s are converted to problems resolved from the message
+   * source only when rendered. The errors of large multi problems can be converted in parallel, see
+   * {@code problem.multi-problem.parallel-enabled}.
    *
    * @param exception the multi-problem exception
    * @param request the request
@@ -43,44 +45,10 @@ public interface ApplicationMultiProblemAdviceTrait<T, R> extends AdviceTrait<T,
    */
   @ExceptionHandler
   default R handleMultiProblem(final MultiProblem exception, final T request) {
-    List<Problem> problems = Lists.newArrayList();
-
-    if (CollectionUtils.isNotEmpty(exception.getErrors())) {
-      problems.addAll(
-          exception.getErrors().stream()
-              .map(
-                  ex -> {
-                    if (ex instanceof Problem problem) {
-                      return problem;
-                    } else if (ex instanceof ProblemSupport problemSupport) {
-                      if (Objects.nonNull(problemSupport.getProblem())) {
-                        return problemSupport.getProblem();
-                      } else {
-                        String errorKey = problemSupport.getErrorKey();
-                        String detailCode = ProblemConstant.DETAIL_CODE_PREFIX + errorKey;
-
-                        return toProblem(
-                            (Throwable) ex,
-                            problemSupport.getStatus(),
-                            errorKey,
-                            Optional.ofNullable(problemSupport.getDefaultDetail())
-                                .orElse(detailCode),
-                            problemSupport.getDetailArgs(),
-                            Optional.ofNullable(problemSupport.getParameters())
-                                .orElse(Collections.emptyMap()));
-                      }
-                    } else if (ex instanceof Throwable throwable) {
-                      return toProblem(
-                          throwable,
-                          GeneralErrorKey.INTERNAL_SERVER_ERROR,
-                          HttpStatus.INTERNAL_SERVER_ERROR);
-                    } else {
-                      throw new IllegalStateException(
-                          "MultiProblem contain illegal instance: " + ex);
-                    }
-                  })
-              .toList());
-    }
+    final List<Problem> problems =
+        CollectionUtils.isNotEmpty(exception.getErrors())
+            ? MultiProblemConverter.convert(exception.getErrors(), this::toErrorProblem)
+            : Collections.emptyList();
     Map<String, Object> parameters = new LinkedHashMap<>(problems.size() + 5);
     parameters.put(ERRORS_KEY, problems);
 
@@ -98,4 +66,39 @@ public interface ApplicationMultiProblemAdviceTrait<T, R> extends AdviceTrait<T,
     Problem problem = toProblem(exception, codeResolver, titleResolver, detailResolver, parameters);
     return toResponse(exception, request, exception.getStatus(), problem);
   }
+
+  /**
+   * Converts an error of a {@link MultiProblem} to a {@link Problem}. Called concurrently for the
+   * errors of large multi problems if {@code problem.multi-problem.parallel-enabled} is set.
+   *
+   * @param error the error, an {@link ErrorDescriptor}, a {@link Problem} or an exception
+   * @return the problem
+   */
+  default Problem toErrorProblem(final Object error) {
+    if (error instanceof ErrorDescriptor descriptor) {
+      return descriptor.toProblem();
+    } else if (error instanceof Problem problem) {
+      return problem;
+    } else if (error instanceof ProblemSupport problemSupport) {
+      if (Objects.nonNull(problemSupport.getProblem())) {
+        return problemSupport.getProblem();
+      } else {
+        String errorKey = problemSupport.getErrorKey();
+        String detailCode = ProblemConstant.DETAIL_CODE_PREFIX + errorKey;
+
+        return toProblem(
+            (Throwable) error,
+            problemSupport.getStatus(),
+            errorKey,
+            Optional.ofNullable(problemSupport.getDefaultDetail()).orElse(detailCode),
+            problemSupport.getDetailArgs(),
+            Optional.ofNullable(problemSupport.getParameters()).orElse(Collections.emptyMap()));
+      }
+    } else if (error instanceof Throwable throwable) {
+      return toProblem(
+          throwable, GeneralErrorKey.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+    } else {
+      throw new IllegalStateException("MultiProblem contain illegal instance: " + error);
+    }
+  }
 }
@@ -0,0 +1,174 @@
+package com.ksoot.problem.spring.advice.application;
+
+import com.ksoot.problem.core.Problem;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import io.micrometer.context.ContextSnapshotFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Converts the errors of a {@link com.ksoot.problem.core.MultiProblem} to problems, splitting the
+ * conversion across a bounded {@link ForkJoinPool} if there are at least {@code
+ * problem.multi-problem.parallel-threshold} errors and parallel conversion is enabled.
+ *
+ * <p>The locale context and logging MDC of the calling thread, and if Micrometer Context
+ * Propagation is available, the thread local values registered with it such as the current trace,
+ * are propagated to the workers. The problems converted by the workers get their code, title and
+ * detail resolved right there, rather than when rendered on the calling thread. The problems are
+ * returned in the order of errors, whichever way converted.
+ *
+ * <p>The pool is created on first parallel conversion, and again whenever {@code
+ * problem.multi-problem.parallelism} is changed, such as on refresh of properties.
+ *
+ * @author Rajveer Singh
+ */
+@UtilityClass
+class MultiProblemConverter {
+
+  // Not worth handing over fewer errors to a worker
+  private static final int MIN_CHUNK_SIZE = 64;
+
+  private static volatile ForkJoinPool currentPool;
+
+  private static final boolean CONTEXT_PROPAGATION_PRESENT =
+      ClassUtils.isPresent(
+          "io.micrometer.context.ContextSnapshotFactory",
+          MultiProblemConverter.class.getClassLoader());
+
+  /**
+   * Converts the given errors with the given converter.
+   *
+   * @param errors the errors
+   * @param converter the converter of an error to problem
+   * @return the problems, in the order of errors
+   */
+  static List<Problem> convert(
+      final List<Object> errors, final Function<Object, ? extends Problem> converter) {
+    final ProblemEngine.Settings settings = ProblemEngine.settings();
+    if (!settings.isParallelConversionEnabled()
+        || errors.size() < settings.getParallelConversionThreshold()) {
+      return errors.stream().<Problem>map(converter).toList();
+    }
+
+    final ForkJoinPool pool = pool(Math.max(settings.getParallelConversionParallelism(), 1));
+    // A few chunks per worker, so that the workers finishing early can take over the rest
+    final int chunkSize =
+        Math.max(MIN_CHUNK_SIZE, ceilDiv(errors.size(), pool.getParallelism() * 4));
+    final Problem[] problems = new Problem[errors.size()];
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>(ceilDiv(errors.size(), chunkSize));
+    for (int from = chunkSize; from < errors.size(); from += chunkSize) {
+      final int start = from;
+      final int end = Math.min(from + chunkSize, errors.size());
+      tasks.add(pool.submit(propagating(() -> convert(errors, start, end, converter, problems))));
+    }
+    // The calling thread converts the first chunk itself, instead of just waiting
+    convert(errors, 0, Math.min(chunkSize, errors.size()), converter, problems);
+    tasks.forEach(ForkJoinTask::join);
+    return Collections.unmodifiableList(Arrays.asList(problems));
+  }
+
+  private static void convert(
+      final List<Object> errors,
+      final int start,
+      final int end,
+      final Function<Object, ? extends Problem> converter,
+      final Problem[] problems) {
+    for (int i = start; i < end; i++) {
+      final Problem problem = converter.apply(errors.get(i));
+      // Messages of problems resolved lazily, such as for error descriptors, are resolved here
+      problem.getCode();
+      problem.getTitle();
+      problem.getDetail();
+      problems[i] = problem;
+    }
+  }
+
+  private static int ceilDiv(final int dividend, final int divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  private static Runnable propagating(final Runnable task) {
+    final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    final Runnable runnable =
+        () -> {
+          final LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+          final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+          LocaleContextHolder.setLocaleContext(localeContext);
+          setMdc(mdc);
+          try {
+            task.run();
+          } finally {
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+            setMdc(previousMdc);
+          }
+        };
+    return CONTEXT_PROPAGATION_PRESENT ? ContextPropagation.wrap(runnable) : runnable;
+  }
+
+  private static void setMdc(final Map<String, String> mdc) {
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    } else {
+      MDC.clear();
+    }
+  }
+
+  // Loaded only if Micrometer Context Propagation is available
+  private static final class ContextPropagation {
+
+    private static final ContextSnapshotFactory SNAPSHOT_FACTORY =
+        ContextSnapshotFactory.builder().build();
+
+    private static Runnable wrap(final Runnable task) {
+      return SNAPSHOT_FACTORY.captureAll().wrap(task);
+    }
+  }
+
+  // Replaced pool needs no shutdown, its idle workers being daemon threads terminated after a while
+  private static ForkJoinPool pool(final int parallelism) {
+    ForkJoinPool current = currentPool;
+    if (current == null || current.getParallelism() != parallelism) {
+      synchronized (MultiProblemConverter.class) {
+        current = currentPool;
+        if (current == null || current.getParallelism() != parallelism) {
+          current = createPool(parallelism);
+          currentPool = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private static ForkJoinPool createPool(final int parallelism) {
+    return new ForkJoinPool(
+        parallelism,
+        forkJoinPool -> {
+          final ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+          thread.setName("problem-conversion-" + thread.getPoolIndex());
+          return thread;
+        },
+        null,
+        false,
+        0,
+        parallelism,
+        1,
+        null,
+        60,
+        TimeUnit.SECONDS);
+  }
+}
@@ -4,6 +4,7 @@ import static com.ksoot.problem.core.ProblemConstant.DETAIL_CODE_PREFIX;
 
 import com.ksoot.problem.core.GeneralErrorKey;
 import com.ksoot.problem.core.Problem;
+import com.ksoot.problem.core.ResponseTemplates;
 import com.ksoot.problem.spring.advice.AdviceTrait;
 import com.ksoot.problem.spring.config.ProblemMessageSourceResolver;
 import java.util.List;
@@ -35,7 +36,7 @@ public interface BaseNotAcceptableAdviceTrait<T, R> extends AdviceTrait<T, R> {
       final Exception exception,
       final T request) {
     final HttpHeaders headers = new HttpHeaders();
-    headers.setAccept(supportedMediaTypes);
+    headers.set(HttpHeaders.ACCEPT, ResponseTemplates.acceptHeader(supportedMediaTypes));
     Problem problem =
         toProblem(
             exception,
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import com.ksoot.problem.core.GeneralErrorKey;
 import com.ksoot.problem.core.Problem;
 import com.ksoot.problem.core.ProblemConstant;
+import com.ksoot.problem.core.ResponseTemplates;
 import com.ksoot.problem.spring.advice.AdviceTrait;
 import com.ksoot.problem.spring.config.ProblemMessageSourceResolver;
 import jakarta.annotation.Nullable;
@@ -53,7 +54,7 @@ public interface MethodNotAllowedAdviceTrait<T, R> extends AdviceTrait<T, R> {
                 new Object[] {requestedMethod, allowedMethods}));
 
     final HttpHeaders headers = new HttpHeaders();
-    headers.setAllow(requireNonNull(methods));
+    headers.set(HttpHeaders.ALLOW, ResponseTemplates.allowHeader(requireNonNull(methods)));
     return buildResponse(exception, request, HttpStatus.METHOD_NOT_ALLOWED, headers, problem);
   }
 }
@@ -2,8 +2,9 @@ package com.ksoot.problem.spring.advice.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ksoot.problem.spring.advice.webflux.SpringWebfluxProblemResponseUtils;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.codec.Encoder;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,13 +16,45 @@ import reactor.core.publisher.Mono;
  * A {@link ServerAccessDeniedHandler} for WebFlux applications that uses {@link
  * SecurityAdviceTraits} to handle access denial exceptions.
  */
-@RequiredArgsConstructor
 public class ProblemServerAccessDeniedHandler implements ServerAccessDeniedHandler {
 
   private final SecurityAdviceTraits<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> advice;
 
   private final ObjectMapper objectMapper;
 
+  private final @Nullable Encoder<ProblemDetail> encoder;
+
+  /**
+   * Constructs a new {@code ProblemServerAccessDeniedHandler} writing the responses with given
+   * object mapper.
+   *
+   * @param advice the security advice trait
+   * @param objectMapper the object mapper
+   */
+  public ProblemServerAccessDeniedHandler(
+      final SecurityAdviceTraits<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> advice,
+      final ObjectMapper objectMapper) {
+    this(advice, objectMapper, null);
+  }
+
+  /**
+   * Constructs a new {@code ProblemServerAccessDeniedHandler} writing the responses with given
+   * encoder if any, such as the one used when {@code problem.fast-rendering-enabled} is set,
+   * otherwise with given object mapper.
+   *
+   * @param advice the security advice trait
+   * @param objectMapper the object mapper
+   * @param encoder the problem detail encoder, {@code null} to use the object mapper
+   */
+  public ProblemServerAccessDeniedHandler(
+      final SecurityAdviceTraits<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> advice,
+      final ObjectMapper objectMapper,
+      @Nullable final Encoder<ProblemDetail> encoder) {
+    this.advice = advice;
+    this.objectMapper = objectMapper;
+    this.encoder = encoder;
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNull Mono<Void> handle(
@@ -30,7 +63,10 @@ public class ProblemServerAccessDeniedHandler implements ServerAccessDeniedHandl
         .handleAccessDeniedException(exception, exchange)
         .flatMap(
             entity ->
-                SpringWebfluxProblemResponseUtils.writeResponse(
-                    entity, exchange, this.objectMapper));
+                this.encoder != null
+                    ? SpringWebfluxProblemResponseUtils.writeResponse(
+                        entity, exchange, this.encoder)
+                    : SpringWebfluxProblemResponseUtils.writeResponse(
+                        entity, exchange, this.objectMapper));
   }
 }
@@ -1,7 +1,7 @@
 package com.ksoot.problem.spring.advice.validation;
 
 import com.ksoot.problem.spring.advice.AdviceTrait;
-import com.ksoot.problem.spring.config.ProblemBeanRegistry;
+import com.ksoot.problem.spring.config.ProblemEngine;
 import com.ksoot.problem.spring.config.ProblemMessageProvider;
 import com.ksoot.problem.spring.config.ProblemMessageSourceResolver;
 import org.springframework.http.HttpStatus;
@@ -35,7 +35,7 @@ public interface BaseValidationAdviceTrait<T, R> extends AdviceTrait<T, R> {
       final ProblemMessageSourceResolver codeResolver,
       final ProblemMessageSourceResolver messageResolver,
       final String propertyPath) {
-    if (ProblemBeanRegistry.problemProperties().isDebugEnabled()) {
+    if (ProblemEngine.settings().isDebugEnabled()) {
       return ViolationVM.of(
           ProblemMessageProvider.getMessage(codeResolver),
           ProblemMessageProvider.getMessage(messageResolver),
@@ -5,7 +5,7 @@ import static com.ksoot.problem.core.ProblemConstant.DETAIL_RESOLVER;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import java.util.LinkedHashMap;
+import com.ksoot.problem.core.ParameterMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -77,10 +77,8 @@ public class ViolationVM {
       MessageSourceResolvable messageResolver) {
     ViolationVM violationVM = of(code, detail, propertyPath);
 
-    Map<String, Object> parameters = new LinkedHashMap<>(2);
-    parameters.put(CODE_RESOLVER, codeResolver);
-    parameters.put(DETAIL_RESOLVER, messageResolver);
-    violationVM.parameters = parameters;
+    violationVM.parameters =
+        ParameterMap.of(CODE_RESOLVER, codeResolver, DETAIL_RESOLVER, messageResolver);
 
     return violationVM;
   }
@@ -101,9 +99,7 @@ public class ViolationVM {
       MessageSourceResolvable messageResolver) {
     ViolationVM violationVM = of(code, message, propertyPath);
 
-    Map<String, Object> parameters = new LinkedHashMap<>(1);
-    parameters.put(DETAIL_RESOLVER, messageResolver);
-    violationVM.parameters = parameters;
+    violationVM.parameters = ParameterMap.of(DETAIL_RESOLVER, messageResolver);
 
     return violationVM;
   }
@@ -1,9 +1,13 @@
 package com.ksoot.problem.spring.advice.webflux;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.Hints;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
@@ -12,10 +16,45 @@ import reactor.core.publisher.Mono;
 /** Utility class for writing problem responses in WebFlux applications. */
 public final class SpringWebfluxProblemResponseUtils {
 
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  private static final ResolvableType PROBLEM_DETAIL_TYPE =
+      ResolvableType.forClass(ProblemDetail.class);
+
   private SpringWebfluxProblemResponseUtils() {
     throw new IllegalStateException("Just a utility class, not supposed to be instantiated");
   }
 
+  /**
+   * Writes the given response entity to the exchange's response, encoding the body straight into a
+   * buffer of the response's buffer factory.
+   *
+   * @param entity the response entity
+   * @param exchange the server web exchange
+   * @param encoder the problem detail encoder, supporting {@link Encoder#encodeValue}
+   * @return a {@link Mono} that completes when the response is written
+   */
+  public static Mono<Void> writeResponse(
+      final ResponseEntity<ProblemDetail> entity,
+      final ServerWebExchange exchange,
+      final Encoder<ProblemDetail> encoder) {
+    final ServerHttpResponse response = prepare(entity, exchange);
+    if (entity.getBody() == null) {
+      return response.setComplete();
+    }
+    // Buffer is allocated only on subscription, and released by the response on error or cancel
+    return response.writeWith(
+        Mono.fromCallable(
+                () ->
+                    encoder.encodeValue(
+                        entity.getBody(),
+                        response.bufferFactory(),
+                        PROBLEM_DETAIL_TYPE,
+                        entity.getHeaders().getContentType(),
+                        Hints.none()))
+            .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+  }
+
   /**
    * Writes the given response entity to the exchange's response.
    *
@@ -27,17 +66,28 @@ public final class SpringWebfluxProblemResponseUtils {
    */
   public static <T> Mono<Void> writeResponse(
       final ResponseEntity<T> entity, final ServerWebExchange exchange, final ObjectMapper mapper) {
+    final ServerHttpResponse response = prepare(entity, exchange);
+    return response.writeWith(
+        Mono.fromCallable(
+                () -> {
+                  final DataBuffer buffer =
+                      response.bufferFactory().allocateBuffer(INITIAL_BUFFER_SIZE);
+                  try {
+                    mapper.writeValue(buffer.asOutputStream(), entity.getBody());
+                    return buffer;
+                  } catch (final IOException | RuntimeException ex) {
+                    DataBufferUtils.release(buffer);
+                    throw ex;
+                  }
+                })
+            .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+  }
+
+  private static ServerHttpResponse prepare(
+      final ResponseEntity<?> entity, final ServerWebExchange exchange) {
     final ServerHttpResponse response = exchange.getResponse();
     response.setStatusCode(entity.getStatusCode());
     response.getHeaders().addAll(entity.getHeaders());
-    try {
-      final DataBuffer buffer =
-          response.bufferFactory().wrap(mapper.writeValueAsBytes(entity.getBody()));
-      return response
-          .writeWith(Mono.just(buffer))
-          .doOnError(error -> DataBufferUtils.release(buffer));
-    } catch (final JsonProcessingException ex) {
-      return Mono.error(ex);
-    }
+    return response;
   }
 }
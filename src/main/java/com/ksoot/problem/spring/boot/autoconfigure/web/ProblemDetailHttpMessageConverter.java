@@ -0,0 +1,77 @@
+package com.ksoot.problem.spring.boot.autoconfigure.web;
+
+import com.ksoot.problem.core.MediaTypes;
+import com.ksoot.problem.core.TemplatedProblemDetail;
+import com.ksoot.problem.jackson.ProblemDetailJsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link org.springframework.http.converter.HttpMessageConverter} writing {@link ProblemDetail}s
+ * straight to the response as JSON through {@link ProblemDetailJsonWriter}. {@link
+ * TemplatedProblemDetail}s having properties of simple types only are written from their templates.
+ * Should be registered before any other JSON converter.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemDetailHttpMessageConverter extends AbstractHttpMessageConverter<ProblemDetail> {
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  private final ProblemDetailJsonWriter jsonWriter;
+
+  /**
+   * Constructs a new {@code ProblemDetailHttpMessageConverter}.
+   *
+   * @param jsonMapper the JSON mapper to write the property values of other than known types with
+   */
+  public ProblemDetailHttpMessageConverter(final JsonMapper jsonMapper) {
+    super(MediaTypes.PROBLEM, MediaTypes.X_PROBLEM, MediaType.APPLICATION_JSON);
+    this.jsonWriter = new ProblemDetailJsonWriter(jsonMapper);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected boolean supports(@NonNull final Class<?> clazz) {
+    return ProblemDetail.class.isAssignableFrom(clazz);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected boolean canRead(final MediaType mediaType) {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected @NonNull ProblemDetail readInternal(
+      @NonNull final Class<? extends ProblemDetail> clazz,
+      @NonNull final HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        getClass().getSimpleName() + " does not support reading", inputMessage);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void writeInternal(
+      @NonNull final ProblemDetail problemDetail, @NonNull final HttpOutputMessage outputMessage)
+      throws IOException {
+    if (problemDetail instanceof TemplatedProblemDetail templated && templated.isTemplatable()) {
+      // Buffered, so that the response is written in one go
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+      templated.writeTo(buffer);
+      buffer.writeTo(outputMessage.getBody());
+    } else {
+      this.jsonWriter.write(problemDetail, StreamUtils.nonClosing(outputMessage.getBody()));
+    }
+  }
+}
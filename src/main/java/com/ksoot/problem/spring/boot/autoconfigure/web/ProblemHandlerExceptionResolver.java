@@ -0,0 +1,125 @@
+package com.ksoot.problem.spring.boot.autoconfigure.web;
+
+import com.ksoot.problem.spring.advice.ProblemHandlerDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * {@link HandlerExceptionResolver} invoking the exception handler methods of problem controller
+ * advices directly, as looked up from {@link ProblemHandlerDispatcher}, and writing the returned
+ * {@link ResponseEntity} with the message converters of {@link RequestMappingHandlerAdapter}.
+ * Ordered before the default exception resolvers, it resolves only the exceptions that are not
+ * handled by any application defined exception handler, leaving the rest to the default ones.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemHandlerExceptionResolver
+    implements HandlerExceptionResolver, Ordered, SmartInitializingSingleton {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ProblemHandlerExceptionResolver.class);
+
+  private final ApplicationContext applicationContext;
+
+  private ProblemHandlerDispatcher dispatcher;
+
+  private List<HttpMessageConverter<?>> messageConverters;
+
+  /**
+   * Constructs a new {@code ProblemHandlerExceptionResolver}.
+   *
+   * @param applicationContext the application context to look up controller advices from
+   */
+  public ProblemHandlerExceptionResolver(final ApplicationContext applicationContext) {
+    this.applicationContext = applicationContext;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterSingletonsInstantiated() {
+    this.dispatcher = new ProblemHandlerDispatcher(this.applicationContext, NativeWebRequest.class);
+    this.messageConverters =
+        this.applicationContext.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable ModelAndView resolveException(
+      @NonNull final HttpServletRequest request,
+      @NonNull final HttpServletResponse response,
+      @Nullable final Object handler,
+      @NonNull final Exception exception) {
+    if (this.dispatcher == null || response.isCommitted()) {
+      return null;
+    }
+    final Class<?> handlerType =
+        handler instanceof HandlerMethod handlerMethod ? handlerMethod.getBeanType() : null;
+    try {
+      final ProblemHandlerDispatcher.Handler problemHandler =
+          this.dispatcher.handlerFor(exception, handlerType);
+      if (problemHandler == null) {
+        return null;
+      }
+      final Object result =
+          problemHandler.handle(exception, new ServletWebRequest(request, response));
+      if (result instanceof ResponseEntity<?> entity && write(entity, response)) {
+        return new ModelAndView();
+      }
+    } catch (final Throwable e) {
+      logger.warn("Failure in exception handler for: " + exception, e);
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean write(final ResponseEntity<?> entity, final HttpServletResponse response)
+      throws Exception {
+    final Object body = entity.getBody();
+    final MediaType contentType = entity.getHeaders().getContentType();
+    HttpMessageConverter<Object> converter = null;
+    if (body != null) {
+      for (final HttpMessageConverter<?> candidate : this.messageConverters) {
+        if (candidate.canWrite(body.getClass(), contentType)) {
+          converter = (HttpMessageConverter<Object>) candidate;
+          break;
+        }
+      }
+      if (converter == null) {
+        return false;
+      }
+    }
+    final ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+    outputMessage.setStatusCode(entity.getStatusCode());
+    outputMessage.getHeaders().addAll(entity.getHeaders());
+    if (converter != null) {
+      converter.write(body, contentType, outputMessage);
+    } else {
+      outputMessage.flush();
+    }
+    return true;
+  }
+}
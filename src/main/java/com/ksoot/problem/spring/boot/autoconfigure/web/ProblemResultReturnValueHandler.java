@@ -0,0 +1,101 @@
+package com.ksoot.problem.spring.boot.autoconfigure.web;
+
+import com.ksoot.problem.core.ErrorResponseBuilder;
+import com.ksoot.problem.core.ProblemResult;
+import com.ksoot.problem.spring.advice.ProblemResultReturnType;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * {@link HandlerMethodReturnValueHandler} for controller methods returning {@link ProblemResult}.
+ * The value of a successful result is written as a {@link ResponseEntity}, and a failed result is
+ * rendered through the {@link ErrorResponseBuilder}, both by the return value handlers of {@link
+ * RequestMappingHandlerAdapter}. Registered ahead of these, as otherwise the results would be
+ * written as is by the {@code @ResponseBody} return value handler.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemResultReturnValueHandler
+    implements HandlerMethodReturnValueHandler, SmartInitializingSingleton {
+
+  private final ApplicationContext applicationContext;
+
+  private HandlerMethodReturnValueHandlerComposite delegate;
+
+  /**
+   * Constructs a new {@code ProblemResultReturnValueHandler}.
+   *
+   * @param applicationContext the application context to look up handler adapter from
+   */
+  public ProblemResultReturnValueHandler(final ApplicationContext applicationContext) {
+    this.applicationContext = applicationContext;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterSingletonsInstantiated() {
+    final RequestMappingHandlerAdapter handlerAdapter =
+        this.applicationContext.getBean(RequestMappingHandlerAdapter.class);
+    final List<HandlerMethodReturnValueHandler> handlers = handlerAdapter.getReturnValueHandlers();
+    if (handlers == null || handlers.contains(this)) {
+      return;
+    }
+    this.delegate = new HandlerMethodReturnValueHandlerComposite().addHandlers(handlers);
+    final List<HandlerMethodReturnValueHandler> returnValueHandlers =
+        new ArrayList<>(handlers.size() + 1);
+    returnValueHandlers.add(this);
+    returnValueHandlers.addAll(handlers);
+    handlerAdapter.setReturnValueHandlers(returnValueHandlers);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean supportsReturnType(@NonNull final MethodParameter returnType) {
+    return ProblemResult.class.isAssignableFrom(returnType.getParameterType());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void handleReturnValue(
+      @Nullable final Object returnValue,
+      @NonNull final MethodParameter returnType,
+      @NonNull final ModelAndViewContainer mavContainer,
+      @NonNull final NativeWebRequest webRequest)
+      throws Exception {
+    final ProblemResult<?> result =
+        returnValue != null ? (ProblemResult<?>) returnValue : ProblemResult.success(null);
+    if (result.isSuccess()) {
+      final Object value = result.getValue();
+      this.delegate.handleReturnValue(
+          value instanceof HttpEntity<?> ? value : ResponseEntity.ok(value),
+          new ProblemResultReturnType(
+              returnType, ProblemResultReturnType.successResponseType(returnType)),
+          mavContainer,
+          webRequest);
+    } else {
+      final ErrorResponseBuilder<NativeWebRequest, ResponseEntity<ProblemDetail>>
+          errorResponseBuilder = ProblemEngine.errorResponseBuilder();
+      this.delegate.handleReturnValue(
+          errorResponseBuilder.buildResponse(
+              null, webRequest, result.getStatus(), new HttpHeaders(), result.getProblem()),
+          new ProblemResultReturnType(returnType, ProblemResultReturnType.PROBLEM_RESPONSE_TYPE),
+          mavContainer,
+          webRequest);
+    }
+  }
+}
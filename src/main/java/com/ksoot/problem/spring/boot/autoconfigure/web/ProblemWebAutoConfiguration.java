@@ -6,12 +6,14 @@ import com.ksoot.problem.spring.boot.autoconfigure.TracingHeaderEnabledCondition
 import com.ksoot.problem.spring.config.ProblemProperties;
 import io.micrometer.tracing.Tracer;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +22,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.NativeWebRequest;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for
@@ -50,6 +53,57 @@ public class ProblemWebAutoConfiguration {
     return new SpringWebErrorResponseBuilder(traceProvider);
   }
 
+  /**
+   * Creates the {@link ProblemResultReturnValueHandler} bean, which registers itself ahead of the
+   * return value handlers of {@code RequestMappingHandlerAdapter}.
+   *
+   * @param applicationContext the application context
+   * @return the problem result return value handler
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  ProblemResultReturnValueHandler problemResultReturnValueHandler(
+      final ApplicationContext applicationContext) {
+    return new ProblemResultReturnValueHandler(applicationContext);
+  }
+
+  /** Configuration for direct JSON rendering of problem details in Servlet web applications. */
+  @ConditionalOnProperty(prefix = "problem", name = "fast-rendering-enabled", havingValue = "true")
+  static class ProblemFastRenderingConfiguration {
+
+    /**
+     * Creates the {@link ProblemDetailHttpMessageConverter} bean, which is registered before the
+     * default message converters.
+     *
+     * @param jsonMapper the application's JSON mapper, if any
+     * @return the problem detail message converter
+     */
+    @Bean
+    ProblemDetailHttpMessageConverter problemDetailHttpMessageConverter(
+        final ObjectProvider<JsonMapper> jsonMapper) {
+      return new ProblemDetailHttpMessageConverter(
+          jsonMapper.getIfAvailable(() -> JsonMapper.builder().build()));
+    }
+  }
+
+  /** Configuration for direct dispatch of exceptions to problem exception handlers. */
+  @ConditionalOnProperty(prefix = "problem", name = "direct-dispatch-enabled", havingValue = "true")
+  static class ProblemDirectDispatchConfiguration {
+
+    /**
+     * Creates the {@link ProblemHandlerExceptionResolver} bean, which is ordered before the default
+     * exception resolvers.
+     *
+     * @param applicationContext the application context
+     * @return the problem handler exception resolver
+     */
+    @Bean
+    ProblemHandlerExceptionResolver problemHandlerExceptionResolver(
+        final ApplicationContext applicationContext) {
+      return new ProblemHandlerExceptionResolver(applicationContext);
+    }
+  }
+
   /** Configuration for {@link ProblemTracingWebFilter} in Servlet web applications. */
   @Conditional(TracingHeaderEnabledCondition.class)
   @ConditionalOnClass(Tracer.class)
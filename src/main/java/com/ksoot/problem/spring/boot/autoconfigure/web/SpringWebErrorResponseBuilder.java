@@ -43,22 +43,26 @@ public class SpringWebErrorResponseBuilder
    * @param request the current request
    * @return an optional media type
    */
-  @SneakyThrows(HttpMediaTypeNotAcceptableException.class)
   public static Optional<MediaType> negotiate(final NativeWebRequest request) {
-    final List<MediaType> mediaTypes =
-        DEFAULT_CONTENT_NEGOTIATION_STRATEGY.resolveMediaTypes(request);
-    return ErrorResponseBuilder.getProblemMediaType(mediaTypes);
+    final String[] accept = request.getHeaderValues(HttpHeaders.ACCEPT);
+    return ErrorResponseBuilder.getProblemMediaType(
+        accept == null ? null : String.join(",", accept), () -> resolveMediaTypes(request));
+  }
+
+  @SneakyThrows(HttpMediaTypeNotAcceptableException.class)
+  private static List<MediaType> resolveMediaTypes(final NativeWebRequest request) {
+    return DEFAULT_CONTENT_NEGOTIATION_STRATEGY.resolveMediaTypes(request);
   }
 
   /** {@inheritDoc} */
   @Override
   public ResponseEntity<ProblemDetail> buildResponse(
-      final Throwable throwable,
+      @Nullable final Throwable throwable,
       final NativeWebRequest request,
       final HttpStatus status,
       final HttpHeaders headers,
       final Problem problem) {
-    if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+    if (status == HttpStatus.INTERNAL_SERVER_ERROR && throwable != null) {
       request.setAttribute(ERROR_EXCEPTION, throwable, SCOPE_REQUEST);
     }
 
@@ -74,7 +78,7 @@ public class SpringWebErrorResponseBuilder
 
     return responseEntity
         .map(problemDetailResponseEntity -> postProcess(problemDetailResponseEntity, request))
-        .orElseGet(() -> fallback(request, status, headers, problem));
+        .orElseGet(() -> fallback(status, headers, problemDetail));
   }
 
   /**
@@ -92,18 +96,13 @@ public class SpringWebErrorResponseBuilder
   /**
    * Fallback method to create an error response if negotiation fails.
    *
-   * @param request the current request
    * @param status the HTTP status
    * @param headers the HTTP headers
-   * @param problem the problem
+   * @param problemDetail the problem detail
    * @return the fallback response entity
    */
   private ResponseEntity<ProblemDetail> fallback(
-      final NativeWebRequest request,
-      final HttpStatus status,
-      final HttpHeaders headers,
-      final Problem problem) {
-    ProblemDetail problemDetail = createProblemDetail(request, status, problem, this.traceProvider);
+      final HttpStatus status, final HttpHeaders headers, final ProblemDetail problemDetail) {
     return ResponseEntity.status(status)
         .headers(headers)
         .contentType(MediaTypes.PROBLEM)
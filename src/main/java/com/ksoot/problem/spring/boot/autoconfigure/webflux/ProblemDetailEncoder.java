@@ -0,0 +1,99 @@
+package com.ksoot.problem.spring.boot.autoconfigure.webflux;
+
+import com.ksoot.problem.core.MediaTypes;
+import com.ksoot.problem.core.TemplatedProblemDetail;
+import com.ksoot.problem.jackson.ProblemDetailJsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link org.springframework.core.codec.Encoder} writing {@link ProblemDetail}s as JSON through
+ * {@link ProblemDetailJsonWriter}. {@link TemplatedProblemDetail}s having properties of simple
+ * types only are written from their templates. Should be registered as a custom codec, so that it
+ * precedes the default JSON encoder.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemDetailEncoder extends AbstractEncoder<ProblemDetail> {
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  private final ProblemDetailJsonWriter jsonWriter;
+
+  /**
+   * Constructs a new {@code ProblemDetailEncoder}.
+   *
+   * @param jsonMapper the JSON mapper to write the property values of other than known types with
+   */
+  public ProblemDetailEncoder(final JsonMapper jsonMapper) {
+    super(MediaTypes.PROBLEM, MediaTypes.X_PROBLEM, MediaType.APPLICATION_JSON);
+    this.jsonWriter = new ProblemDetailJsonWriter(jsonMapper);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canEncode(
+      @NonNull final ResolvableType elementType, @Nullable final MimeType mimeType) {
+    return ProblemDetail.class.isAssignableFrom(elementType.toClass())
+        && super.canEncode(elementType, mimeType);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull Flux<DataBuffer> encode(
+      @NonNull final Publisher<? extends ProblemDetail> inputStream,
+      @NonNull final DataBufferFactory bufferFactory,
+      @NonNull final ResolvableType elementType,
+      @Nullable final MimeType mimeType,
+      @Nullable final Map<String, Object> hints) {
+    return Flux.from(inputStream)
+        .map(
+            problemDetail ->
+                encodeValue(problemDetail, bufferFactory, elementType, mimeType, hints))
+        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NonNull DataBuffer encodeValue(
+      @NonNull final ProblemDetail problemDetail,
+      @NonNull final DataBufferFactory bufferFactory,
+      @NonNull final ResolvableType valueType,
+      @Nullable final MimeType mimeType,
+      @Nullable final Map<String, Object> hints) {
+    // Written straight into a buffer of the factory, pooled one in case of Netty
+    final DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+    boolean release = true;
+    try {
+      final OutputStream out = buffer.asOutputStream();
+      if (problemDetail instanceof TemplatedProblemDetail templated && templated.isTemplatable()) {
+        templated.writeTo(out);
+      } else {
+        this.jsonWriter.write(problemDetail, out);
+      }
+      release = false;
+      return buffer;
+    } catch (final IOException e) {
+      throw new EncodingException("Could not write problem detail: " + e.getMessage(), e);
+    } finally {
+      if (release) {
+        DataBufferUtils.release(buffer);
+      }
+    }
+  }
+}
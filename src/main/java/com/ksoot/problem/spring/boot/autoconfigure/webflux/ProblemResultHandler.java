@@ -0,0 +1,100 @@
+package com.ksoot.problem.spring.boot.autoconfigure.webflux;
+
+import com.ksoot.problem.core.ErrorResponseBuilder;
+import com.ksoot.problem.core.ProblemResult;
+import com.ksoot.problem.spring.advice.ProblemResultReturnType;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import java.lang.reflect.Type;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link HandlerResultHandler} for controller methods returning {@link ProblemResult} or {@link
+ * Mono} of it. The value of a successful result is written as a {@link ResponseEntity}, and a
+ * failed result is rendered through the {@link ErrorResponseBuilder}, both by {@link
+ * ResponseEntityResultHandler}. Ordered ahead of it, as otherwise the results would be written as
+ * is by the {@code @ResponseBody} result handler.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemResultHandler implements HandlerResultHandler, Ordered {
+
+  private static final Type RESPONSE_MONO_TYPE =
+      ResolvableType.forClassWithGenerics(
+              Mono.class, ResolvableType.forClassWithGenerics(ResponseEntity.class, Object.class))
+          .getType();
+
+  private final ResponseEntityResultHandler responseEntityResultHandler;
+
+  /**
+   * Constructs a new {@code ProblemResultHandler}.
+   *
+   * @param responseEntityResultHandler the handler to write the converted response entities with
+   */
+  public ProblemResultHandler(final ResponseEntityResultHandler responseEntityResultHandler) {
+    this.responseEntityResultHandler = responseEntityResultHandler;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getOrder() {
+    return this.responseEntityResultHandler.getOrder() - 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean supports(@NonNull final HandlerResult result) {
+    final ResolvableType returnType = result.getReturnType();
+    final Class<?> type =
+        Mono.class.isAssignableFrom(returnType.toClass())
+            ? returnType.getGeneric(0).toClass()
+            : returnType.toClass();
+    return ProblemResult.class.isAssignableFrom(type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull Mono<Void> handleResult(
+      @NonNull final ServerWebExchange exchange, @NonNull final HandlerResult result) {
+    final Object returnValue = result.getReturnValue();
+    final Mono<ProblemResult<?>> problemResult =
+        returnValue instanceof Mono<?> mono
+            ? (Mono<ProblemResult<?>>) mono
+            : Mono.justOrEmpty((ProblemResult<?>) returnValue);
+    final Mono<?> response =
+        problemResult
+            .defaultIfEmpty(ProblemResult.success(null))
+            .flatMap(resultValue -> toResponseEntity(resultValue, exchange));
+    // Response entity type is resolved from the actual body, so declared as of Object body
+    return this.responseEntityResultHandler.handleResult(
+        exchange,
+        new HandlerResult(
+            result.getHandler(),
+            response,
+            new ProblemResultReturnType(result.getReturnTypeSource(), RESPONSE_MONO_TYPE),
+            result.getBindingContext()));
+  }
+
+  private static Mono<? extends HttpEntity<?>> toResponseEntity(
+      final ProblemResult<?> result, final ServerWebExchange exchange) {
+    if (result.isSuccess()) {
+      final Object value = result.getValue();
+      return Mono.just(value instanceof HttpEntity<?> entity ? entity : ResponseEntity.ok(value));
+    }
+    final ErrorResponseBuilder<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>>
+        errorResponseBuilder = ProblemEngine.errorResponseBuilder();
+    return errorResponseBuilder.buildResponse(
+        null, exchange, result.getStatus(), new HttpHeaders(), result.getProblem());
+  }
+}
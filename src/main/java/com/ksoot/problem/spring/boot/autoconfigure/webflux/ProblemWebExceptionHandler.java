@@ -0,0 +1,89 @@
+package com.ksoot.problem.spring.boot.autoconfigure.webflux;
+
+import com.ksoot.problem.spring.advice.ProblemHandlerDispatcher;
+import com.ksoot.problem.spring.advice.webflux.SpringWebfluxProblemResponseUtils;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link WebExceptionHandler} for the exceptions escaping the dispatcher, such as the ones raised
+ * by web filters or while looking up handlers. These are handled by invoking the exception handler
+ * methods of problem controller advices directly, as looked up from {@link
+ * ProblemHandlerDispatcher}, and the response body is written with {@link ProblemDetailEncoder}.
+ * Ordered before Spring Boot's error web exception handler, it leaves the exceptions that can be
+ * handled by any application defined exception handler to it.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemWebExceptionHandler
+    implements WebExceptionHandler, Ordered, SmartInitializingSingleton {
+
+  /** The order of this handler, just before Spring Boot's error web exception handler. */
+  public static final int ORDER = -2;
+
+  private final ApplicationContext applicationContext;
+
+  private final ProblemDetailEncoder encoder;
+
+  private ProblemHandlerDispatcher dispatcher;
+
+  /**
+   * Constructs a new {@code ProblemWebExceptionHandler}.
+   *
+   * @param applicationContext the application context to look up controller advices from
+   * @param encoder the encoder to write problem details with
+   */
+  public ProblemWebExceptionHandler(
+      final ApplicationContext applicationContext, final ProblemDetailEncoder encoder) {
+    this.applicationContext = applicationContext;
+    this.encoder = encoder;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterSingletonsInstantiated() {
+    this.dispatcher =
+        new ProblemHandlerDispatcher(this.applicationContext, ServerWebExchange.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull Mono<Void> handle(
+      @NonNull final ServerWebExchange exchange, @NonNull final Throwable exception) {
+    if (this.dispatcher == null || exchange.getResponse().isCommitted()) {
+      return Mono.error(exception);
+    }
+    final ProblemHandlerDispatcher.Handler handler = this.dispatcher.handlerFor(exception, null);
+    if (handler == null) {
+      return Mono.error(exception);
+    }
+    final Object result;
+    try {
+      result = handler.handle(exception, exchange);
+    } catch (final Throwable e) {
+      return Mono.error(e);
+    }
+    if (!(result instanceof Mono<?> response)) {
+      return Mono.error(exception);
+    }
+    return ((Mono<ResponseEntity<ProblemDetail>>) response)
+        .switchIfEmpty(Mono.error(exception))
+        .flatMap(
+            entity ->
+                SpringWebfluxProblemResponseUtils.writeResponse(entity, exchange, this.encoder));
+  }
+}
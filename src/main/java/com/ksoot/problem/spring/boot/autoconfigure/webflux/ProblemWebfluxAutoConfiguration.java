@@ -6,6 +6,7 @@ import com.ksoot.problem.spring.boot.autoconfigure.TracingHeaderEnabledCondition
 import com.ksoot.problem.spring.config.ProblemProperties;
 import io.micrometer.tracing.Tracer;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -13,14 +14,19 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityResultHandler;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} for
@@ -51,6 +57,65 @@ public class ProblemWebfluxAutoConfiguration {
     return new SpringWebfluxErrorResponseBuilder(traceProvider);
   }
 
+  /**
+   * Creates the {@link ProblemResultHandler} bean, which is ordered before {@link
+   * ResponseEntityResultHandler}.
+   *
+   * @param responseEntityResultHandler the response entity result handler
+   * @return the problem result handler
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  ProblemResultHandler problemResultHandler(
+      final ResponseEntityResultHandler responseEntityResultHandler) {
+    return new ProblemResultHandler(responseEntityResultHandler);
+  }
+
+  /** Configuration for direct JSON rendering of problem details in WebFlux applications. */
+  @ConditionalOnProperty(prefix = "problem", name = "fast-rendering-enabled", havingValue = "true")
+  static class ProblemFastRenderingConfiguration {
+
+    /**
+     * Creates the {@link WebFluxConfigurer} bean registering {@link ProblemDetailEncoder} as a
+     * custom codec, which precedes the default codecs.
+     *
+     * @param jsonMapper the application's JSON mapper, if any
+     * @return the WebFlux configurer
+     */
+    @Bean
+    WebFluxConfigurer problemDetailEncoderConfigurer(final ObjectProvider<JsonMapper> jsonMapper) {
+      final ProblemDetailEncoder encoder =
+          new ProblemDetailEncoder(jsonMapper.getIfAvailable(() -> JsonMapper.builder().build()));
+      return new WebFluxConfigurer() {
+        @Override
+        public void configureHttpMessageCodecs(final ServerCodecConfigurer configurer) {
+          configurer.customCodecs().register(encoder);
+        }
+      };
+    }
+  }
+
+  /** Configuration for direct dispatch of exceptions to problem exception handlers. */
+  @ConditionalOnProperty(prefix = "problem", name = "direct-dispatch-enabled", havingValue = "true")
+  static class ProblemDirectDispatchConfiguration {
+
+    /**
+     * Creates the {@link ProblemWebExceptionHandler} bean, which is ordered before Spring Boot's
+     * error web exception handler.
+     *
+     * @param applicationContext the application context
+     * @param jsonMapper the application's JSON mapper, if any
+     * @return the problem web exception handler
+     */
+    @Bean
+    ProblemWebExceptionHandler problemWebExceptionHandler(
+        final ApplicationContext applicationContext, final ObjectProvider<JsonMapper> jsonMapper) {
+      return new ProblemWebExceptionHandler(
+          applicationContext,
+          new ProblemDetailEncoder(jsonMapper.getIfAvailable(() -> JsonMapper.builder().build())));
+    }
+  }
+
   /** Configuration for {@link ProblemTracingWebFluxFilter} in WebFlux applications. */
   @Conditional(TracingHeaderEnabledCondition.class)
   @ConditionalOnClass(Tracer.class)
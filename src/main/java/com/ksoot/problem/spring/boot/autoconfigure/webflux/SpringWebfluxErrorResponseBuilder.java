@@ -28,6 +28,9 @@ import reactor.core.publisher.Mono;
 public class SpringWebfluxErrorResponseBuilder
     implements ErrorResponseBuilder<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> {
 
+  private static final HeaderContentTypeResolver CONTENT_TYPE_RESOLVER =
+      new HeaderContentTypeResolver();
+
   private final TraceProvider traceProvider;
 
   /**
@@ -44,12 +47,12 @@ public class SpringWebfluxErrorResponseBuilder
   /** {@inheritDoc} */
   @Override
   public Mono<ResponseEntity<ProblemDetail>> buildResponse(
-      final Throwable throwable,
+      @Nullable final Throwable throwable,
       final ServerWebExchange request,
       final HttpStatus status,
       final HttpHeaders headers,
       final Problem problem) {
-    if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+    if (status == HttpStatus.INTERNAL_SERVER_ERROR && throwable != null) {
       request.getAttributes().put(ERROR_EXCEPTION, throwable);
     }
 
@@ -66,7 +69,7 @@ public class SpringWebfluxErrorResponseBuilder
 
     return responseEntity
         .map(responseEntityMono -> postProcess(responseEntityMono, request))
-        .orElseGet(() -> fallback(request, status, headers, problem));
+        .orElseGet(() -> fallback(status, headers, problemDetail));
   }
 
   /**
@@ -76,8 +79,10 @@ public class SpringWebfluxErrorResponseBuilder
    * @return an optional media type for the problem response
    */
   Optional<MediaType> negotiate(final ServerWebExchange request) {
-    final List<MediaType> mediaTypes = new HeaderContentTypeResolver().resolveMediaTypes(request);
-    return ErrorResponseBuilder.getProblemMediaType(mediaTypes);
+    final List<String> accept = request.getRequest().getHeaders().getOrEmpty(HttpHeaders.ACCEPT);
+    return ErrorResponseBuilder.getProblemMediaType(
+        accept.isEmpty() ? null : String.join(",", accept),
+        () -> CONTENT_TYPE_RESOLVER.resolveMediaTypes(request));
   }
 
   /**
@@ -96,18 +101,13 @@ public class SpringWebfluxErrorResponseBuilder
    * Fallback method to create an error response if content negotiation fails. It uses {@link
    * MediaTypes#PROBLEM} as the default media type.
    *
-   * @param request the current exchange
    * @param status the HTTP status
    * @param headers the HTTP headers
-   * @param problem the problem
+   * @param problemDetail the problem detail
    * @return the fallback response mono
    */
   private Mono<ResponseEntity<ProblemDetail>> fallback(
-      final ServerWebExchange request,
-      final HttpStatus status,
-      final HttpHeaders headers,
-      final Problem problem) {
-    ProblemDetail problemDetail = createProblemDetail(request, status, problem, this.traceProvider);
+      final HttpStatus status, final HttpHeaders headers, final ProblemDetail problemDetail) {
     return Mono.just(
         ResponseEntity.status(status)
             .headers(headers)
@@ -7,6 +7,8 @@ import com.ksoot.problem.spring.advice.security.SecurityAdviceTraits;
 import com.ksoot.problem.spring.boot.autoconfigure.SecurityAdviceEnabled;
 import com.ksoot.problem.spring.config.ProblemProperties;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -24,6 +26,7 @@ import org.springframework.security.web.server.authorization.ServerAccessDeniedH
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * {@link ControllerAdvice} for handling security-related exceptions in WebFlux applications. It
@@ -47,14 +50,19 @@ public class WebFluxSecurityExceptionHandler
    *
    * @param advice the security advice trait
    * @param objectMapper the object mapper
+   * @param problemProperties the problem properties
+   * @param jsonMapper the application's JSON mapper, if any
    * @return the authentication entry point
    */
   @ConditionalOnMissingBean
   @Bean
   ServerAuthenticationEntryPoint authenticationEntryPoint(
       final SecurityAdviceTraits<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> advice,
-      final ObjectMapper objectMapper) {
-    return new ProblemServerAuthenticationEntryPoint(advice, objectMapper);
+      final ObjectMapper objectMapper,
+      final ProblemProperties problemProperties,
+      final ObjectProvider<JsonMapper> jsonMapper) {
+    return new ProblemServerAuthenticationEntryPoint(
+        advice, objectMapper, problemDetailEncoder(problemProperties, jsonMapper));
   }
 
   /**
@@ -62,13 +70,26 @@ public class WebFluxSecurityExceptionHandler
    *
    * @param advice the security advice trait
    * @param objectMapper the object mapper
+   * @param problemProperties the problem properties
+   * @param jsonMapper the application's JSON mapper, if any
    * @return the access denied handler
    */
   @ConditionalOnMissingBean
   @Bean
   ServerAccessDeniedHandler accessDeniedHandler(
       final SecurityAdviceTraits<ServerWebExchange, Mono<ResponseEntity<ProblemDetail>>> advice,
-      final ObjectMapper objectMapper) {
-    return new ProblemServerAccessDeniedHandler(advice, objectMapper);
+      final ObjectMapper objectMapper,
+      final ProblemProperties problemProperties,
+      final ObjectProvider<JsonMapper> jsonMapper) {
+    return new ProblemServerAccessDeniedHandler(
+        advice, objectMapper, problemDetailEncoder(problemProperties, jsonMapper));
+  }
+
+  // Responses are written with object mapper as usual, unless fast rendering is enabled
+  private static @Nullable ProblemDetailEncoder problemDetailEncoder(
+      final ProblemProperties problemProperties, final ObjectProvider<JsonMapper> jsonMapper) {
+    return problemProperties.isFastRenderingEnabled()
+        ? new ProblemDetailEncoder(jsonMapper.getIfAvailable(() -> JsonMapper.builder().build()))
+        : null;
   }
 }
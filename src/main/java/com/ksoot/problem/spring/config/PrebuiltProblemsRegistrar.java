@@ -0,0 +1,72 @@
+package com.ksoot.problem.spring.config;
+
+import com.ksoot.problem.core.ErrorType;
+import com.ksoot.problem.core.PrebuiltProblems;
+import java.util.List;
+import org.apache.commons.collections4.CollectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registers all {@link ErrorType} enums found on the classpath in {@link PrebuiltProblems}, so that
+ * their problems are built once at startup. Scans the packages given by {@code
+ * problem.prebuilt.packages}, or the auto-configuration packages i.e. the package of the class
+ * annotated with {@code @SpringBootApplication}, if not specified.
+ *
+ * @author Rajveer Singh
+ */
+public class PrebuiltProblemsRegistrar {
+
+  private static final Logger logger = LoggerFactory.getLogger(PrebuiltProblemsRegistrar.class);
+
+  /**
+   * Constructs a new {@code PrebuiltProblemsRegistrar}, scanning and registering the error types.
+   *
+   * @param prebuiltProperties the prebuilt problems properties
+   * @param beanFactory the bean factory to get the auto-configuration packages from
+   */
+  public PrebuiltProblemsRegistrar(
+      final ProblemProperties.Prebuilt prebuiltProperties, final BeanFactory beanFactory) {
+    final List<String> packages =
+        CollectionUtils.isNotEmpty(prebuiltProperties.getPackages())
+            ? prebuiltProperties.getPackages()
+            : AutoConfigurationPackages.has(beanFactory)
+                ? AutoConfigurationPackages.get(beanFactory)
+                : List.of();
+    int count = 0;
+    for (final String basePackage : packages) {
+      for (final Class<? extends ErrorType> errorTypeEnum : scan(basePackage)) {
+        PrebuiltProblems.register(errorTypeEnum);
+        count++;
+      }
+    }
+    logger.debug("Prebuilt problems for {} ErrorType enums in packages: {}", count, packages);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Class<? extends ErrorType>> scan(final String basePackage) {
+    final ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false) {
+          @Override
+          protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+            // Enums are final, so only excluding the enum constant bodies i.e. anonymous classes
+            return beanDefinition.getMetadata().isIndependent();
+          }
+        };
+    scanner.addIncludeFilter(new AssignableTypeFilter(ErrorType.class));
+    final ClassLoader classLoader = PrebuiltProblemsRegistrar.class.getClassLoader();
+    return scanner.findCandidateComponents(basePackage).stream()
+        .map(BeanDefinition::getBeanClassName)
+        .map(className -> ClassUtils.resolveClassName(className, classLoader))
+        .filter(Class::isEnum)
+        .<Class<? extends ErrorType>>map(type -> (Class<? extends ErrorType>) type)
+        .toList();
+  }
+}
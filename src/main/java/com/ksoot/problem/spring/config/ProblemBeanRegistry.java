@@ -3,15 +3,26 @@ package com.ksoot.problem.spring.config;
 import com.ksoot.problem.core.ErrorResponseBuilder;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * Helper class that provides static access to the Spring {@link ApplicationContext} and common
  * beans. This class implements {@link ApplicationContextAware} to capture the context on startup.
+ * It also registers the {@link ProblemEngine}, which should be preferred on hot paths over the
+ * lookups provided here.
  *
  * @author Rajveer Singh
  */
@@ -38,6 +49,23 @@ public class ProblemBeanRegistry implements ApplicationContextAware {
     ProblemBeanRegistry.applicationContext = applicationContext;
   }
 
+  /**
+   * Creates the {@link ProblemEngine} bean.
+   *
+   * @param problemProperties the problem properties
+   * @param environment the environment
+   * @param errorResponseBuilder the provider of error response builder
+   * @return the problem engine
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  ProblemEngine problemEngine(
+      final ProblemProperties problemProperties,
+      final Environment environment,
+      final ObjectProvider<ErrorResponseBuilder<?, ?>> errorResponseBuilder) {
+    return new ProblemEngine(problemProperties, environment, errorResponseBuilder);
+  }
+
   /**
    * Retrieves a bean of the specified type from the application context.
    *
@@ -81,4 +109,46 @@ public class ProblemBeanRegistry implements ApplicationContextAware {
   public static <T, R> ErrorResponseBuilder<T, R> errorResponseBuilder() {
     return applicationContext.getBean(ErrorResponseBuilder.class);
   }
+
+  /** Configuration to register {@code ErrorType} enums found on the classpath as prebuilt. */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(prefix = "problem", name = "prebuilt.enabled", havingValue = "true")
+  static class PrebuiltProblemsConfiguration {
+
+    /**
+     * Creates the {@link PrebuiltProblemsRegistrar} bean, registering the scanned error types.
+     *
+     * @param problemProperties the problem properties
+     * @param beanFactory the bean factory
+     * @return the prebuilt problems registrar
+     */
+    @Bean
+    PrebuiltProblemsRegistrar prebuiltProblemsRegistrar(
+        final ProblemProperties problemProperties, final BeanFactory beanFactory) {
+      return new PrebuiltProblemsRegistrar(problemProperties.getPrebuilt(), beanFactory);
+    }
+  }
+
+  /** Configuration to refresh {@link ProblemEngine} on change of problem properties at runtime. */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(EnvironmentChangeEvent.class)
+  static class ProblemEngineRefreshConfiguration {
+
+    /**
+     * Creates the listener refreshing {@link ProblemEngine} whenever any {@code problem.*} property
+     * changes in the environment.
+     *
+     * @param problemEngine the problem engine
+     * @return the environment change listener
+     */
+    @Bean
+    ApplicationListener<EnvironmentChangeEvent> problemEngineRefresher(
+        final ProblemEngine problemEngine) {
+      return event -> {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith("problem."))) {
+          problemEngine.refresh();
+        }
+      };
+    }
+  }
 }
@@ -0,0 +1,280 @@
+package com.ksoot.problem.spring.config;
+
+import com.ksoot.problem.core.ErrorResponseBuilder;
+import com.ksoot.problem.core.ProblemLogger;
+import com.ksoot.problem.core.StackFrameFilter;
+import com.ksoot.problem.core.StackTraceInterner;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
+
+/**
+ * Holds what is needed while handling every exception, so that it is not looked up in application
+ * context on each call. That is an immutable {@link Settings} snapshot of {@link
+ * ProblemProperties}, and a direct reference to {@link ErrorResponseBuilder}, exposed statically
+ * for the advice traits.
+ *
+ * <p>The snapshot is taken again and swapped atomically on each application context refresh and, if
+ * Spring Cloud Context is available, on each change of {@code problem.*} properties in the
+ * environment, so that toggles such as {@code problem.debug-enabled} can be changed at runtime.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemEngine implements ApplicationListener<ContextRefreshedEvent> {
+
+  private static volatile @Nullable ProblemEngine instance;
+
+  private final Environment environment;
+
+  private final ObjectProvider<ErrorResponseBuilder<?, ?>> errorResponseBuilderProvider;
+
+  private volatile Settings settings;
+
+  // Stateful, so kept across the settings snapshots unless configured differently
+  private volatile @Nullable StackTraceInterner stackTraceInterner;
+
+  private final ProblemLogger problemLogger;
+
+  private volatile @Nullable ErrorResponseBuilder<?, ?> errorResponseBuilder;
+
+  /**
+   * Constructs a new {@code ProblemEngine}. Beans are resolved only on application context refresh,
+   * as these may not be created yet.
+   *
+   * @param problemProperties the problem properties to take initial snapshot of
+   * @param environment the environment to rebind problem properties from on change
+   * @param errorResponseBuilderProvider the provider of error response builder
+   */
+  public ProblemEngine(
+      final ProblemProperties problemProperties,
+      final Environment environment,
+      final ObjectProvider<ErrorResponseBuilder<?, ?>> errorResponseBuilderProvider) {
+    this.environment = environment;
+    this.errorResponseBuilderProvider = errorResponseBuilderProvider;
+    final Settings initialSettings = new Settings(problemProperties);
+    this.problemLogger = newProblemLogger(initialSettings);
+    apply(initialSettings);
+    ProblemEngine.instance = this;
+  }
+
+  /**
+   * Returns the current snapshot of problem properties, or the one of default problem properties if
+   * no {@code ProblemEngine} is registered yet, such as while problems are thrown during startup.
+   *
+   * @return the settings
+   */
+  public static Settings settings() {
+    final ProblemEngine engine = instance;
+    return engine != null ? engine.settings : Defaults.SETTINGS;
+  }
+
+  /**
+   * Returns the table of stack traces interned by fingerprint.
+   *
+   * @return the stack trace interner, {@code null} if {@code problem.stacktrace.dedup-enabled} is
+   *     not set or no {@code ProblemEngine} is registered yet
+   */
+  public static @Nullable StackTraceInterner stackTraceInterner() {
+    final ProblemEngine engine = instance;
+    return engine != null ? engine.stackTraceInterner : null;
+  }
+
+  /**
+   * Returns the logger of handled errors, as per the logging policies.
+   *
+   * @return the problem logger, logging as per default policy if no {@code ProblemEngine} is
+   *     registered yet
+   */
+  public static ProblemLogger problemLogger() {
+    final ProblemEngine engine = instance;
+    return engine != null ? engine.problemLogger : Defaults.PROBLEM_LOGGER;
+  }
+
+  /**
+   * Returns the {@link ErrorResponseBuilder}, taken from application context directly if not
+   * resolved yet.
+   *
+   * @param <T> the type of the error response
+   * @param <R> the type of the response entity
+   * @return the error response builder
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, R> ErrorResponseBuilder<T, R> errorResponseBuilder() {
+    final ProblemEngine engine = instance;
+    final ErrorResponseBuilder<?, ?> errorResponseBuilder =
+        engine != null ? engine.errorResponseBuilder : null;
+    return errorResponseBuilder != null
+        ? (ErrorResponseBuilder<T, R>) errorResponseBuilder
+        : ProblemBeanRegistry.errorResponseBuilder();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onApplicationEvent(@NonNull final ContextRefreshedEvent event) {
+    this.errorResponseBuilder = this.errorResponseBuilderProvider.getIfAvailable();
+    refresh();
+  }
+
+  /**
+   * Binds problem properties from the environment again and swaps the settings snapshot with the
+   * one taken from these.
+   */
+  public void refresh() {
+    apply(
+        new Settings(
+            Binder.get(this.environment).bindOrCreate("problem", ProblemProperties.class)));
+  }
+
+  // Interned stack traces and tracked occurrences of errors are kept, unless configured differently
+  private void apply(final Settings settings) {
+    final StackTraceInterner interner = this.stackTraceInterner;
+    if (!settings.isStackTraceDedupEnabled()) {
+      this.stackTraceInterner = null;
+    } else if (interner == null
+        || interner.getFingerprintDepth() != settings.getFingerprintDepth()
+        || interner.getMaxSize() != settings.getInternMaxSize()) {
+      this.stackTraceInterner =
+          new StackTraceInterner(settings.getFingerprintDepth(), settings.getInternMaxSize());
+    }
+    configure(this.problemLogger, settings);
+    this.settings = settings;
+  }
+
+  private static ProblemLogger newProblemLogger(final Settings settings) {
+    return new ProblemLogger(
+        settings.getDefaultLogPolicy(),
+        settings.getLogPolicies(),
+        settings.getFingerprintDepth(),
+        settings.getMaxLogFingerprints());
+  }
+
+  private static void configure(final ProblemLogger problemLogger, final Settings settings) {
+    problemLogger.configure(
+        settings.getDefaultLogPolicy(),
+        settings.getLogPolicies(),
+        settings.getFingerprintDepth(),
+        settings.getMaxLogFingerprints());
+  }
+
+  // Created on first use only, as needed only until a ProblemEngine is registered
+  private static final class Defaults {
+
+    private static final Settings SETTINGS = new Settings(new ProblemProperties());
+
+    private static final ProblemLogger PROBLEM_LOGGER = newProblemLogger(SETTINGS);
+  }
+
+  /** Immutable snapshot of the {@link ProblemProperties} read while handling exceptions. */
+  @Getter
+  public static final class Settings {
+
+    /** Help page base URL, {@code null} if blank. */
+    private final @Nullable String typeUrl;
+
+    /** Whether to include debug-info such as message codes in error responses. */
+    private final boolean debugEnabled;
+
+    /** Whether to include stacktrace in error responses. */
+    private final boolean stacktraceEnabled;
+
+    /** Maximum number of stack trace frames captured for problems. */
+    private final int stacktraceMaxDepth;
+
+    /** Filter of framework frames in stack traces, {@code null} if not enabled. */
+    private final @Nullable StackFrameFilter stackFrameFilter;
+
+    /** Number of top frames the fingerprint of a stack trace is taken from. */
+    private final int fingerprintDepth;
+
+    /** Whether to intern the stack traces by fingerprint. */
+    private final boolean stackTraceDedupEnabled;
+
+    /** Maximum number of stack traces interned. */
+    private final long internMaxSize;
+
+    /** Logging policy of the errors not matching any of logging policies. */
+    private final ProblemLogger.Policy defaultLogPolicy;
+
+    /** Logging policies by error code, status code or status class. */
+    private final Map<String, ProblemLogger.Policy> logPolicies;
+
+    /** Maximum number of error fingerprints whose occurrences are tracked for rate limits. */
+    private final long maxLogFingerprints;
+
+    /** Whether to include exception cause in error responses. */
+    private final boolean causeChainsEnabled;
+
+    /** Maximum number of causes converted to problems. */
+    private final int causeChainsMaxDepth;
+
+    /** Whether to build application problems without capturing the stack trace. */
+    private final boolean stacklessEnabled;
+
+    /** Whether to convert the errors of large multi problems in parallel. */
+    private final boolean parallelConversionEnabled;
+
+    /** Minimum number of errors of a multi problem to convert in parallel. */
+    private final int parallelConversionThreshold;
+
+    /** Maximum number of threads converting errors of multi problems in parallel. */
+    private final int parallelConversionParallelism;
+
+    /** Whether to write error responses straight as JSON. */
+    private final boolean fastRenderingEnabled;
+
+    /** Whether to add Trace Id in error response body. */
+    private final boolean traceInBody;
+
+    Settings(final ProblemProperties properties) {
+      this.typeUrl =
+          StringUtils.isNotBlank(properties.getTypeUrl()) ? properties.getTypeUrl() : null;
+      this.debugEnabled = properties.isDebugEnabled();
+      this.stacktraceEnabled = properties.isStacktraceEnabled();
+      this.stacktraceMaxDepth = Math.max(properties.getStacktrace().getMaxDepth(), 1);
+      this.stackFrameFilter =
+          properties.getStacktrace().isFilterEnabled()
+              ? new StackFrameFilter(
+                  properties.getStacktrace().getIncludePackages(),
+                  properties.getStacktrace().getExcludePackages())
+              : null;
+      this.fingerprintDepth = Math.max(properties.getStacktrace().getFingerprintDepth(), 1);
+      this.stackTraceDedupEnabled = properties.getStacktrace().isDedupEnabled();
+      this.internMaxSize = Math.max(properties.getStacktrace().getInternMaxSize(), 1);
+      this.defaultLogPolicy = toLogPolicy(properties.getLogging().getDefaultPolicy());
+      final Map<String, ProblemLogger.Policy> logPolicies = new LinkedHashMap<>();
+      properties
+          .getLogging()
+          .getPolicies()
+          .forEach((key, policy) -> logPolicies.put(key, toLogPolicy(policy)));
+      this.logPolicies = Collections.unmodifiableMap(logPolicies);
+      this.maxLogFingerprints = Math.max(properties.getLogging().getMaxFingerprints(), 1);
+      this.causeChainsEnabled = properties.isCauseChainsEnabled();
+      this.causeChainsMaxDepth = Math.max(properties.getCauseChainsMaxDepth(), 0);
+      this.stacklessEnabled = properties.isStacklessEnabled();
+      this.parallelConversionEnabled = properties.getMultiProblem().isParallelEnabled();
+      this.parallelConversionThreshold = properties.getMultiProblem().getParallelThreshold();
+      this.parallelConversionParallelism = properties.getMultiProblem().getParallelism();
+      this.fastRenderingEnabled = properties.isFastRenderingEnabled();
+      this.traceInBody =
+          properties.getTracing().isEnabled() && properties.getTracing().getStrategy().isBody();
+    }
+
+    private static ProblemLogger.Policy toLogPolicy(final ProblemProperties.LogPolicy policy) {
+      return new ProblemLogger.Policy(
+          policy.getLevel(),
+          policy.isStacktrace(),
+          policy.getRateLimit(),
+          policy.getRatePeriod(),
+          policy.getSummaryInterval());
+    }
+  }
+}
@@ -1,19 +1,50 @@
 package com.ksoot.problem.spring.config;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.ksoot.problem.catalog.ProblemCatalog;
+import com.ksoot.problem.core.MessageResolution;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
 
 /**
  * Utility class for resolving messages using the Spring {@link MessageSource}. It provides static
  * methods to retrieve localized messages.
  *
+ * <p>Message codes not found in {@link MessageSource} are remembered per locale in a bounded
+ * negative cache, so that subsequent lookups for such codes directly fall back to the default
+ * message without walking through the {@link MessageSource} hierarchy again. The negative cache is
+ * cleared by {@link #clearCache()}, which {@link ReloadableProblemMessageSource} calls whenever its
+ * messages are reloaded.
+ *
+ * <p>{@link ProblemCatalog}s compiled at build time and registered as {@link ServiceLoader}
+ * providers are looked up before {@link MessageSource}, so messages found in catalogs take
+ * precedence.
+ *
  * @author Rajveer Singh
  */
 public class ProblemMessageProvider {
 
+  private static final long DEFAULT_MAX_SIZE = 1000;
+
+  private static final List<ProblemCatalog> CATALOGS = loadCatalogs();
+
   private static MessageSource messageSource;
 
+  private static volatile @Nullable Cache<MessageKey, Boolean> absentMessages =
+      newCache(DEFAULT_MAX_SIZE, null);
+
   /**
    * Constructs a new {@code ProblemMessageProvider} with the given {@link MessageSource}.
    *
@@ -23,6 +54,49 @@ public class ProblemMessageProvider {
     ProblemMessageProvider.messageSource = messageSource;
   }
 
+  /**
+   * Constructs a new {@code ProblemMessageProvider} with the given {@link MessageSource} and
+   * negative cache configuration.
+   *
+   * @param messageSource the {@link MessageSource} to be used for message resolution
+   * @param cacheProperties the cache properties
+   */
+  public ProblemMessageProvider(
+      final MessageSource messageSource, final ProblemProperties.Cache cacheProperties) {
+    ProblemMessageProvider.messageSource = messageSource;
+    ProblemMessageProvider.absentMessages =
+        cacheProperties.isEnabled()
+            ? newCache(cacheProperties.getMaxSize(), cacheProperties.getExpireAfterWrite())
+            : null;
+  }
+
+  private static List<ProblemCatalog> loadCatalogs() {
+    final List<ProblemCatalog> catalogs = new ArrayList<>();
+    ServiceLoader.load(ProblemCatalog.class, ProblemMessageProvider.class.getClassLoader())
+        .forEach(catalogs::add);
+    return List.copyOf(catalogs);
+  }
+
+  private static Cache<MessageKey, Boolean> newCache(
+      final long maxSize, @Nullable final Duration expireAfterWrite) {
+    final CacheBuilder<Object, Object> builder =
+        CacheBuilder.newBuilder().maximumSize(maxSize).recordStats();
+    if (expireAfterWrite != null) {
+      builder.expireAfterWrite(expireAfterWrite);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns whether the {@link MessageSource} is set yet, i.e. a {@code ProblemMessageProvider} is
+   * constructed.
+   *
+   * @return {@code true} if initialized, otherwise {@code false}
+   */
+  public static boolean isInitialized() {
+    return messageSource != null;
+  }
+
   /**
    * Resolves a message for the given code and default message using the current locale.
    *
@@ -31,8 +105,7 @@ public class ProblemMessageProvider {
    * @return the resolved message
    */
   public static String getMessage(final String messageCode, final String defaultMessage) {
-    return messageSource.getMessage(
-        messageCode, null, defaultMessage, LocaleContextHolder.getLocale());
+    return getMessage(messageCode, defaultMessage, (Object[]) null);
   }
 
   /**
@@ -45,8 +118,13 @@ public class ProblemMessageProvider {
    */
   public static String getMessage(
       final String messageCode, final String defaultMessage, final Object... params) {
-    return messageSource.getMessage(
-        messageCode, params, defaultMessage, LocaleContextHolder.getLocale());
+    final Locale locale = LocaleContextHolder.getLocale();
+    if (defaultMessage != null) {
+      final String message = lookup(messageCode, params, locale);
+      return message != null ? message : renderDefaultMessage(defaultMessage, params, locale);
+    }
+    final String message = findInCatalogs(messageCode, params, locale);
+    return message != null ? message : messageSource.getMessage(messageCode, params, null, locale);
   }
 
   /**
@@ -56,6 +134,131 @@ public class ProblemMessageProvider {
    * @return the resolved message
    */
   public static String getMessage(final MessageSourceResolvable resolvable) {
-    return messageSource.getMessage(resolvable, LocaleContextHolder.getLocale());
+    return getMessage(resolvable, LocaleContextHolder.getLocale());
+  }
+
+  /**
+   * Resolves a message using a {@link MessageSourceResolvable} and the given locale. Useful to
+   * resolve the messages later, e.g. while rendering the error response, in the locale captured
+   * while the problem was created.
+   *
+   * @param resolvable the resolvable object
+   * @param locale the locale
+   * @return the resolved message
+   */
+  public static String getMessage(final MessageSourceResolvable resolvable, final Locale locale) {
+    final String[] codes = resolvable.getCodes();
+    if (codes != null) {
+      for (final String code : codes) {
+        final String message = lookup(code, resolvable.getArguments(), locale);
+        if (message != null) {
+          return message;
+        }
+      }
+    }
+    final String defaultMessage = resolvable.getDefaultMessage();
+    return defaultMessage != null
+        ? renderDefaultMessage(defaultMessage, resolvable.getArguments(), locale)
+        : messageSource.getMessage(resolvable, locale);
+  }
+
+  /**
+   * Finds a message for the given code using the current locale. Unlike other methods, it does not
+   * fall back to any default, so the code itself is not taken as message even if {@link
+   * MessageSource} is configured to use code as default message.
+   *
+   * @param messageCode the code to lookup
+   * @return the resolved message, or {@code null} if not found
+   */
+  public static @Nullable String findMessage(final String messageCode) {
+    return findMessage(messageCode, LocaleContextHolder.getLocale());
+  }
+
+  /**
+   * Finds a message for the given code using the given locale, without falling back to any default.
+   *
+   * @param messageCode the code to lookup
+   * @param locale the locale
+   * @return the resolved message, or {@code null} if not found
+   */
+  public static @Nullable String findMessage(final String messageCode, final Locale locale) {
+    return lookup(messageCode, null, locale);
+  }
+
+  /** Clears the negative cache of message codes not found in {@link MessageSource}. */
+  public static void clearCache() {
+    final Cache<MessageKey, Boolean> cache = absentMessages;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  /**
+   * Returns the statistics of negative cache, such as hit and miss counts.
+   *
+   * @return the negative cache statistics, {@link CacheStats} with all zeros if disabled
+   */
+  public static CacheStats negativeCacheStats() {
+    final Cache<MessageKey, Boolean> cache = absentMessages;
+    return cache != null ? cache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  private static @Nullable String lookup(
+      final String messageCode, @Nullable final Object[] args, final Locale locale) {
+    final Cache<MessageKey, Boolean> cache = absentMessages;
+    if (cache == null) {
+      return find(messageCode, args, locale);
+    }
+    final MessageKey key = new MessageKey(messageCode, locale);
+    if (cache.getIfPresent(key) != null) {
+      return null;
+    }
+    final String message = find(messageCode, args, locale);
+    if (message == null) {
+      cache.put(key, Boolean.TRUE);
+    }
+    return message;
+  }
+
+  private static @Nullable String find(
+      final String messageCode, @Nullable final Object[] args, final Locale locale) {
+    final String catalogMessage = findInCatalogs(messageCode, args, locale);
+    if (catalogMessage != null) {
+      return catalogMessage;
+    }
+    final String message = messageSource.getMessage(messageCode, args, null, locale);
+    return messageCode.equals(message) ? null : message;
+  }
+
+  private static @Nullable String findInCatalogs(
+      final String messageCode, @Nullable final Object[] args, final Locale locale) {
+    if (CATALOGS.isEmpty()) {
+      return null;
+    }
+    final Object[] resolvedArgs =
+        MessageResolution.resolveArguments(
+            args, resolvable -> messageSource.getMessage(resolvable, locale));
+    for (final ProblemCatalog catalog : CATALOGS) {
+      final String message = catalog.getMessage(messageCode, resolvedArgs, locale);
+      if (message != null) {
+        return message;
+      }
+    }
+    return null;
+  }
+
+  private static String renderDefaultMessage(
+      final String defaultMessage, @Nullable final Object[] args, final Locale locale) {
+    return messageSource.getMessage(
+        new DefaultMessageSourceResolvable(null, args, defaultMessage), locale);
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class MessageKey {
+
+    private final String code;
+
+    private final Locale locale;
   }
 }
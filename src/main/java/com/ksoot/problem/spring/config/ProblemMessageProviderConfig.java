@@ -1,27 +1,77 @@
 package com.ksoot.problem.spring.config;
 
+import java.util.List;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.Strings;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
- * Configuration class that registers a {@link ProblemMessageProvider} bean.
+ * Configuration class that registers a {@link ProblemMessageProvider} bean and the caches of
+ * resolved problem messages.
  *
  * @author Rajveer Singh
  */
 @Configuration
-@ConditionalOnMissingBean(value = ProblemMessageProvider.class)
+@EnableConfigurationProperties(ProblemProperties.class)
 public class ProblemMessageProviderConfig {
 
+  private static final String DEFAULT_BASENAME = "i18n/problems";
+
   /**
-   * Creates a {@link ProblemMessageProvider} bean if one doesn't already exist.
+   * Creates a {@link ProblemMessageProvider} bean if one doesn't already exist. If enabled, the
+   * messages are resolved from a dedicated {@link ProblemMessageSource} backed by given {@link
+   * MessageSource}.
    *
    * @param messageSource the {@link MessageSource} to be used by the provider
+   * @param problemProperties the problem properties
+   * @param environment the environment to derive the basenames of message bundles from
    * @return the {@link ProblemMessageProvider} instance
    */
   @Bean
-  ProblemMessageProvider problemMessageProvider(final MessageSource messageSource) {
-    return new ProblemMessageProvider(messageSource);
+  @ConditionalOnMissingBean(value = ProblemMessageProvider.class)
+  ProblemMessageProvider problemMessageProvider(
+      final MessageSource messageSource,
+      final ProblemProperties problemProperties,
+      final Environment environment) {
+    final MessageSource problemMessageSource =
+        problemProperties.getMessageSource().isEnabled()
+            ? new ProblemMessageSource(
+                messageSourceBasenames(problemProperties, environment), messageSource)
+            : messageSource;
+    return new ProblemMessageProvider(problemMessageSource, problemProperties.getCache());
+  }
+
+  private static List<String> messageSourceBasenames(
+      final ProblemProperties problemProperties, final Environment environment) {
+    if (CollectionUtils.isNotEmpty(problemProperties.getMessageSource().getBasenames())) {
+      return problemProperties.getMessageSource().getBasenames();
+    }
+    // Index same bundles as application's message source, to retain the precedence of messages
+    return Binder.get(environment)
+        .bind("spring.messages.basename", Bindable.listOf(String.class))
+        .map(
+            basenames ->
+                basenames.stream()
+                    .map(basename -> Strings.CS.removeStart(basename.trim(), "classpath:"))
+                    .toList())
+        .orElse(List.of(DEFAULT_BASENAME));
+  }
+
+  /**
+   * Creates a {@link ProblemTemplateCache} bean, evicted on each application context refresh.
+   *
+   * @param problemProperties the problem properties
+   * @return the {@link ProblemTemplateCache} instance
+   */
+  @Bean
+  ProblemTemplateCache problemTemplateCache(final ProblemProperties problemProperties) {
+    return new ProblemTemplateCache(problemProperties.getCache());
   }
 }
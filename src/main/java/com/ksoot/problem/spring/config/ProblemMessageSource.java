@@ -0,0 +1,235 @@
+package com.ksoot.problem.spring.config;
+
+import com.ksoot.problem.core.MessageResolution;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable {@link MessageSource} dedicated to problem messages. All {@code <basename>*.properties}
+ * bundles found on classpath for configured basenames are merged at startup into an immutable index
+ * of message code to per locale message, so message resolution does not acquire any locks. Messages
+ * for codes not found in the index are resolved by the parent {@link MessageSource}.
+ *
+ * <p>Messages are resolved similar to {@link java.util.ResourceBundle}, i.e. by looking up the
+ * bundles for requested locale, its parent locales, the system locale if no bundle is found for
+ * requested locale, and finally the base bundle. Basenames are looked up in order, so the messages
+ * of first basename take precedence. Messages without arguments are returned as is, while the ones
+ * with arguments are formatted using {@link MessageFormat}.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemMessageSource implements MessageSource {
+
+  private static final String PROPERTIES_SUFFIX = ".properties";
+
+  private static final int MAX_CACHED_LOCALES = 256;
+
+  private final MessageSource parentMessageSource;
+
+  // Bundles per basename in order of precedence, each having messages per locale of bundle
+  private final List<Map<Locale, Map<String, String>>> bundles;
+
+  private final Map<Locale, Map<String, CompiledMessage>> messagesPerLocale =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new {@code ProblemMessageSource} loading the bundles for given basenames from
+   * classpath.
+   *
+   * @param basenames the basenames of bundles in order of precedence, e.g. {@code i18n/problems}
+   * @param parentMessageSource the {@link MessageSource} to resolve messages not found in bundles
+   */
+  public ProblemMessageSource(
+      final List<String> basenames, final MessageSource parentMessageSource) {
+    Assert.notEmpty(basenames, "'basenames' must not be null or empty");
+    Assert.notNull(parentMessageSource, "'parentMessageSource' must not be null");
+    this.parentMessageSource = parentMessageSource;
+    final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    final List<Map<Locale, Map<String, String>>> bundles = new ArrayList<>(basenames.size());
+    for (final String basename : basenames) {
+      bundles.add(loadBundles(resolver, StringUtils.trimLeadingCharacter(basename.trim(), '/')));
+    }
+    this.bundles = List.copyOf(bundles);
+  }
+
+  private static Map<Locale, Map<String, String>> loadBundles(
+      final ResourcePatternResolver resolver, final String basename) {
+    final String bundleName = StringUtils.getFilename(basename);
+    final Map<Locale, Map<String, String>> bundles = new HashMap<>();
+    try {
+      for (final Resource resource :
+          resolver.getResources(
+              ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                  + basename
+                  + "*"
+                  + PROPERTIES_SUFFIX)) {
+        final Locale locale = bundleLocale(bundleName, resource.getFilename());
+        if (locale != null) {
+          final Map<String, String> messages =
+              bundles.computeIfAbsent(locale, key -> new HashMap<>());
+          // Bundles found earlier on classpath take precedence
+          loadProperties(resource).forEach(messages::putIfAbsent);
+        }
+      }
+    } catch (final IOException e) {
+      throw new ProblemConfigException("Could not load problem message bundles: " + basename, e);
+    }
+    final Map<Locale, Map<String, String>> immutableBundles = new HashMap<>(bundles.size());
+    bundles.forEach((locale, messages) -> immutableBundles.put(locale, Map.copyOf(messages)));
+    return Map.copyOf(immutableBundles);
+  }
+
+  private static @Nullable Locale bundleLocale(
+      final String bundleName, @Nullable final String filename) {
+    if (filename == null || !filename.endsWith(PROPERTIES_SUFFIX)) {
+      return null;
+    }
+    final String name = filename.substring(0, filename.length() - PROPERTIES_SUFFIX.length());
+    if (name.equals(bundleName)) {
+      return Locale.ROOT;
+    } else if (name.startsWith(bundleName + "_")) {
+      return StringUtils.parseLocale(name.substring(bundleName.length() + 1));
+    } else {
+      // Some other bundle having same prefix e.g. problems-extra.properties
+      return null;
+    }
+  }
+
+  private static Map<String, String> loadProperties(final Resource resource) throws IOException {
+    final Properties properties = new Properties();
+    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+      properties.load(reader);
+    }
+    final Map<String, String> messages = new LinkedHashMap<>(properties.size());
+    properties.stringPropertyNames().forEach(key -> messages.put(key, properties.getProperty(key)));
+    return messages;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @Nullable String getMessage(
+      final String code,
+      @Nullable final Object[] args,
+      @Nullable final String defaultMessage,
+      final Locale locale) {
+    final CompiledMessage message = messages(locale).get(code);
+    return message != null
+        ? message.format(resolveArguments(args, locale))
+        : this.parentMessageSource.getMessage(code, args, defaultMessage, locale);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getMessage(final String code, @Nullable final Object[] args, final Locale locale)
+      throws NoSuchMessageException {
+    final CompiledMessage message = messages(locale).get(code);
+    return message != null
+        ? message.format(resolveArguments(args, locale))
+        : this.parentMessageSource.getMessage(code, args, locale);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getMessage(final MessageSourceResolvable resolvable, final Locale locale)
+      throws NoSuchMessageException {
+    final String[] codes = resolvable.getCodes();
+    if (codes != null) {
+      final Map<String, CompiledMessage> messages = messages(locale);
+      for (final String code : codes) {
+        final CompiledMessage message = messages.get(code);
+        if (message != null) {
+          return message.format(resolveArguments(resolvable.getArguments(), locale));
+        }
+        final String parentMessage =
+            this.parentMessageSource.getMessage(code, resolvable.getArguments(), null, locale);
+        if (parentMessage != null && !parentMessage.equals(code)) {
+          return parentMessage;
+        }
+      }
+    }
+    // Let parent apply its own default message and use code as default message semantics
+    return this.parentMessageSource.getMessage(resolvable, locale);
+  }
+
+  private @Nullable Object[] resolveArguments(@Nullable final Object[] args, final Locale locale) {
+    return MessageResolution.resolveArguments(args, resolvable -> getMessage(resolvable, locale));
+  }
+
+  private Map<String, CompiledMessage> messages(final Locale locale) {
+    final Map<String, CompiledMessage> messages = this.messagesPerLocale.get(locale);
+    if (messages != null) {
+      return messages;
+    }
+    // Do not let arbitrary locales coming from requests grow the cache unbounded
+    return this.messagesPerLocale.size() < MAX_CACHED_LOCALES
+        ? this.messagesPerLocale.computeIfAbsent(locale, this::mergeMessages)
+        : mergeMessages(locale);
+  }
+
+  private Map<String, CompiledMessage> mergeMessages(final Locale locale) {
+    final Map<String, CompiledMessage> messages = new HashMap<>();
+    // Lowest precedence first, so that messages with higher precedence override
+    for (int i = this.bundles.size() - 1; i >= 0; i--) {
+      final Map<Locale, Map<String, String>> bundle = this.bundles.get(i);
+      final List<Locale> candidateLocales =
+          MessageResolution.candidateLocales(locale, bundle::containsKey);
+      for (int j = candidateLocales.size() - 1; j >= 0; j--) {
+        bundle
+            .get(candidateLocales.get(j))
+            .forEach((code, pattern) -> messages.put(code, new CompiledMessage(pattern, locale)));
+      }
+    }
+    return Map.copyOf(messages);
+  }
+
+  /**
+   * Message pattern for a locale. The {@link MessageFormat} is parsed once on first use with
+   * arguments and then cloned for each formatting, as {@link MessageFormat} is not thread safe.
+   */
+  private static final class CompiledMessage {
+
+    private final String pattern;
+
+    private final Locale locale;
+
+    private volatile MessageFormat messageFormat;
+
+    private CompiledMessage(final String pattern, final Locale locale) {
+      this.pattern = pattern;
+      this.locale = locale;
+    }
+
+    private String format(@Nullable final Object[] args) {
+      if (ArrayUtils.isEmpty(args)) {
+        return this.pattern;
+      }
+      MessageFormat format = this.messageFormat;
+      if (format == null) {
+        format = new MessageFormat(this.pattern, this.locale);
+        this.messageFormat = format;
+      }
+      return ((MessageFormat) format.clone()).format(args);
+    }
+  }
+}
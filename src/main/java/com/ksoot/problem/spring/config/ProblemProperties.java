@@ -3,12 +3,18 @@ package com.ksoot.problem.spring.config;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.slf4j.event.Level;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -41,6 +47,35 @@ public class ProblemProperties {
   /** Whether to include exception cause in error response messages. Default: {@code false}. */
   private boolean causeChainsEnabled = false;
 
+  /**
+   * Maximum number of causes converted to problems when cause chains are enabled, the causes deeper
+   * than that are left out. Default: {@code 10}.
+   */
+  private int causeChainsMaxDepth = 10;
+
+  /**
+   * Whether to build all application problems and exceptions without capturing the stack trace,
+   * which is still captured if {@code stacktrace-enabled} is set or the logging policy for the
+   * status logs the stack trace. Default: {@code false}.
+   */
+  private boolean stacklessEnabled = false;
+
+  /**
+   * Whether to write error responses straight as JSON instead of serializing them through the
+   * application's JSON mapper. The ones having properties of simple types only are written using
+   * pre-rendered templates for the members same across occurrences of a problem. Default: {@code
+   * false}.
+   */
+  private boolean fastRenderingEnabled = false;
+
+  /**
+   * Whether to dispatch exceptions directly to the exception handler methods of problem controller
+   * advices, looked up once per exception type, instead of resolving and invoking these as generic
+   * exception handler methods. Exceptions that can be handled by any application defined exception
+   * handler are still handled as usual. Default: {@code false}.
+   */
+  private boolean directDispatchEnabled = false;
+
   /** Whether to enable Jackson Problem module. Default: {@code true}. */
   private boolean jacksonModuleEnabled = true;
 
@@ -56,6 +91,24 @@ public class ProblemProperties {
   /** Tracing properties. */
   private Tracing tracing = new Tracing();
 
+  /** Problem message cache properties. */
+  private Cache cache = new Cache();
+
+  /** Dedicated problem message source properties. */
+  private MessageSource messageSource = new MessageSource();
+
+  /** Prebuilt problem properties. */
+  private Prebuilt prebuilt = new Prebuilt();
+
+  /** Multi problem properties. */
+  private MultiProblem multiProblem = new MultiProblem();
+
+  /** Stack trace properties. */
+  private Stacktrace stacktrace = new Stacktrace();
+
+  /** Logging properties. */
+  private Logging logging = new Logging();
+
   /** Configuration properties for OpenAPI validation. */
   @Getter
   @Setter
@@ -85,6 +138,225 @@ public class ProblemProperties {
     private boolean resValidationEnabled = false;
   }
 
+  /** Configuration properties for caching of resolved problem messages. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class Cache {
+
+    /**
+     * Whether to cache problem templates resolved per exception class and locale, and the message
+     * codes not found in message source. Default: {@code true}.
+     */
+    private boolean enabled = true;
+
+    /** Maximum number of entries in each problem message cache. Default: {@code 1000}. */
+    @Positive private long maxSize = 1000;
+
+    /**
+     * Time after which cached entries expire, should be aligned with the reload interval of message
+     * bundles, if any. Default: None, entries never expire and are only evicted on application
+     * context refresh.
+     */
+    private Duration expireAfterWrite;
+  }
+
+  /** Configuration properties for dedicated immutable message source for problem messages. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class MessageSource {
+
+    /**
+     * Whether to resolve problem messages from an immutable, lock-free index of message bundles
+     * loaded at startup, delegating to application's message source only for messages not found in
+     * the index. Default: {@code false}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Basenames of message bundles to be indexed, in order of precedence. Default: {@code
+     * spring.messages.basename} if specified, otherwise {@code i18n/problems}.
+     */
+    private List<String> basenames = new ArrayList<>();
+  }
+
+  /** Configuration properties for problems prebuilt per {@code ErrorType} enum constant. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class Prebuilt {
+
+    /**
+     * Whether to scan the classpath for {@code ErrorType} enums at startup and build immutable
+     * stackless problems for their constants, thrown as is by {@code Problems.throwAble(ErrorType)}
+     * for stackless error types. Default: {@code false}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Packages to scan for {@code ErrorType} enums. Default: the auto-configuration packages i.e.
+     * the package of the class annotated with {@code @SpringBootApplication}.
+     */
+    private List<String> packages = new ArrayList<>();
+  }
+
+  /** Configuration properties for handling of {@code MultiProblem}s. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class MultiProblem {
+
+    /**
+     * Whether to convert the errors of large multi problems to problems in parallel, on a dedicated
+     * fork-join pool. Default: {@code false}.
+     */
+    private boolean parallelEnabled = false;
+
+    /** Minimum number of errors to convert in parallel. Default: {@code 1000}. */
+    @Positive private int parallelThreshold = 1000;
+
+    /**
+     * Maximum number of threads converting errors in parallel, read once when the pool is created
+     * on first parallel conversion. Default: number of available processors.
+     */
+    @Positive private int parallelism = Runtime.getRuntime().availableProcessors();
+  }
+
+  /** Configuration properties for stack traces of problems. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class Stacktrace {
+
+    /**
+     * Maximum number of frames captured for problems built by the library, and taken from the
+     * exceptions converted to problems. Default: {@code 1024}, same as of the JVM by default.
+     */
+    @Positive private int maxDepth = 1024;
+
+    /**
+     * Whether to collapse each run of framework frames in stack traces included in error responses
+     * and of problems converted from exceptions, into a single "... N frames omitted" frame.
+     * Default: {@code false}.
+     */
+    private boolean filterEnabled = false;
+
+    /**
+     * Package prefixes of frames to keep, overriding shorter {@code exclude-packages} prefixes.
+     * Default: None.
+     */
+    private List<String> includePackages = new ArrayList<>();
+
+    /**
+     * Package prefixes of frames to omit. Default: the packages of servlet containers, Spring,
+     * Reactor, Netty, reflection and proxies.
+     */
+    private List<String> excludePackages =
+        new ArrayList<>(
+            List.of(
+                "org.springframework.",
+                "org.apache.catalina.",
+                "org.apache.coyote.",
+                "org.apache.tomcat.",
+                "org.eclipse.jetty.",
+                "io.undertow.",
+                "jakarta.servlet.",
+                "reactor.",
+                "io.netty.",
+                "io.micrometer.",
+                "java.lang.reflect.",
+                "jdk.internal.reflect.",
+                "sun.reflect.",
+                "jdk.proxy",
+                "com.sun.proxy."));
+
+    /**
+     * Whether to intern the stack traces by fingerprint, so that the repeated stack traces are
+     * shared, and error responses carry the fingerprint along with the frames on first occurrence
+     * only, referring to it by fingerprint afterwards. Default: {@code false}.
+     */
+    private boolean dedupEnabled = false;
+
+    /**
+     * Number of top frames the fingerprint of a stack trace is taken from, along with the exception
+     * class. Default: {@code 16}.
+     */
+    @Positive private int fingerprintDepth = 16;
+
+    /** Maximum number of stack traces interned. Default: {@code 1000}. */
+    @Positive private long internMaxSize = 1000;
+  }
+
+  /** Configuration properties for logging of handled errors. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class Logging {
+
+    /**
+     * Logging policy of the errors not matching any of {@code policies}. Default: at {@code ERROR}
+     * level with stack trace, without any rate limit.
+     */
+    @Valid private LogPolicy defaultPolicy = new LogPolicy();
+
+    /**
+     * Logging policies by error code such as {@code XYZ-001}, status code such as {@code 404} or
+     * status class such as {@code 4xx}, the most specific one matching an error is applied.
+     * Default: None.
+     */
+    @Valid private Map<String, LogPolicy> policies = new LinkedHashMap<>();
+
+    /**
+     * Maximum number of error fingerprints whose occurrences are tracked for rate limits. Default:
+     * {@code 10000}.
+     */
+    @Positive private long maxFingerprints = 10000;
+  }
+
+  /** Logging policy of errors. */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @ToString
+  @Valid
+  public static class LogPolicy {
+
+    /** Level to log the errors at. Default: {@code ERROR}. */
+    @NotNull private Level level = Level.ERROR;
+
+    /** Whether to log the stack trace of errors. Default: {@code true}. */
+    private boolean stacktrace = true;
+
+    /**
+     * Maximum number of occurrences of an error, told apart by fingerprint, logged in full within
+     * {@code rate-period}. The ones beyond it are only counted and logged as a summary once per
+     * {@code summary-interval}. Default: {@code 0}, no limit.
+     */
+    @PositiveOrZero private int rateLimit = 0;
+
+    /** Period over which the rate limit is restored. Default: {@code 1m}. */
+    @NotNull private Duration ratePeriod = Duration.ofMinutes(1);
+
+    /**
+     * Minimum interval between summaries of suppressed occurrences of an error. Default: same as
+     * {@code rate-period}.
+     */
+    private Duration summaryInterval;
+  }
+
   /** Configuration properties for tracing support in error responses. */
   @Getter
   @Setter
@@ -0,0 +1,279 @@
+package com.ksoot.problem.spring.config;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.ksoot.problem.core.ProblemConstant;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Bounded, locale-keyed cache of problem templates resolved per exception class. A template holds
+ * the code, title and detail resolved from {@code code.<fqcn>}, {@code title.<fqcn>} and {@code
+ * detail.<fqcn>} message codes, falling back to the ones of the default error key.
+ *
+ * <p>The status overrides resolved from {@code status.<fqcn>} message codes are kept in a cache
+ * bounded alike, by exception class and locale. Locales not overriding the status of default locale
+ * share its entry.
+ *
+ * <p>Templates are built on first use and evicted whenever the application context is refreshed, or
+ * after {@code problem.cache.expire-after-write} if set. If the {@link MessageSource} is reloaded
+ * by other means, {@link #clear()} should be called explicitly, as {@link
+ * ReloadableProblemMessageSource} does. Hit and miss counts can be obtained from {@link #stats()}
+ * and {@link #statusStats()}.
+ *
+ * @author Rajveer Singh
+ */
+public class ProblemTemplateCache implements ApplicationListener<ContextRefreshedEvent> {
+
+  private static final long DEFAULT_MAX_SIZE = 1000;
+
+  private static volatile boolean enabled = true;
+
+  private static volatile Cache<Key, Template> templates = newCache(DEFAULT_MAX_SIZE, null);
+
+  private static volatile Cache<StatusKey, Optional<HttpStatus>> statuses =
+      newCache(DEFAULT_MAX_SIZE, null);
+
+  /**
+   * Constructs a new {@code ProblemTemplateCache} with the given cache properties.
+   *
+   * @param properties the cache properties
+   */
+  public ProblemTemplateCache(final ProblemProperties.Cache properties) {
+    ProblemTemplateCache.enabled = properties.isEnabled();
+    ProblemTemplateCache.templates =
+        newCache(properties.getMaxSize(), properties.getExpireAfterWrite());
+    ProblemTemplateCache.statuses =
+        newCache(properties.getMaxSize(), properties.getExpireAfterWrite());
+  }
+
+  private static <K, V> Cache<K, V> newCache(
+      final long maxSize, @Nullable final Duration expireAfterWrite) {
+    final CacheBuilder<Object, Object> builder =
+        CacheBuilder.newBuilder().maximumSize(maxSize).recordStats();
+    if (expireAfterWrite != null) {
+      builder.expireAfterWrite(expireAfterWrite);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the template for the given exception type, resolved in the current locale.
+   *
+   * @param type the exception type
+   * @param defaultErrorKey the error key to fall back to if no messages are defined for the type
+   * @param status the HTTP status to derive default code and title from
+   * @return the resolved template
+   */
+  public static Template getTemplate(
+      final Class<? extends Throwable> type,
+      final String defaultErrorKey,
+      final HttpStatus status) {
+    if (!enabled) {
+      return resolveTemplate(type, defaultErrorKey, status);
+    }
+    final Key key = new Key(type, defaultErrorKey, status, LocaleContextHolder.getLocale());
+    return get(templates, key, () -> resolveTemplate(type, defaultErrorKey, status));
+  }
+
+  /**
+   * Returns the status override specified by {@code status.<fqcn>} message code for the given
+   * exception type, resolved in the current locale.
+   *
+   * @param type the exception type
+   * @return the status override, or empty if not specified or not a valid HTTP status
+   */
+  public static Optional<HttpStatus> getStatusOverride(final Class<? extends Throwable> type) {
+    final Locale locale = LocaleContextHolder.getLocale();
+    if (!enabled) {
+      return resolveStatusOverride(type, locale);
+    }
+    return get(statuses, new StatusKey(type, locale), () -> loadStatusOverride(type, locale));
+  }
+
+  // Shares the entry of default locale unless overridden specifically for the given locale
+  private static Optional<HttpStatus> loadStatusOverride(
+      final Class<? extends Throwable> type, final Locale locale) {
+    final Optional<HttpStatus> status = resolveStatusOverride(type, locale);
+    if (Locale.ROOT.equals(locale)) {
+      return status;
+    }
+    final Optional<HttpStatus> defaultStatus =
+        get(
+            statuses,
+            new StatusKey(type, Locale.ROOT),
+            () -> resolveStatusOverride(type, Locale.ROOT));
+    return status.equals(defaultStatus) ? defaultStatus : status;
+  }
+
+  /**
+   * Evicts all cached templates and status overrides, along with the negative cache of {@link
+   * ProblemMessageProvider}.
+   */
+  public static void clear() {
+    templates.invalidateAll();
+    statuses.invalidateAll();
+    ProblemMessageProvider.clearCache();
+  }
+
+  /**
+   * Returns the statistics of template cache, such as hit and miss counts.
+   *
+   * @return the template cache statistics
+   */
+  public static CacheStats stats() {
+    return templates.stats();
+  }
+
+  /**
+   * Returns the statistics of status override cache, such as hit and miss counts.
+   *
+   * @return the status override cache statistics
+   */
+  public static CacheStats statusStats() {
+    return statuses.stats();
+  }
+
+  private static <K, V> V get(final Cache<K, V> cache, final K key, final Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new ProblemConfigException(e.getCause());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onApplicationEvent(@NonNull final ContextRefreshedEvent event) {
+    clear();
+  }
+
+  private static Template resolveTemplate(
+      final Class<? extends Throwable> type,
+      final String defaultErrorKey,
+      final HttpStatus status) {
+    final String errorKey = ClassUtils.getName(type);
+    final String codeCode = ProblemConstant.CODE_CODE_PREFIX + errorKey;
+    final String titleCode = ProblemConstant.TITLE_CODE_PREFIX + errorKey;
+    final String detailCode = ProblemConstant.DETAIL_CODE_PREFIX + errorKey;
+
+    final String defaultCode =
+        ProblemMessageProvider.getMessage(
+            ProblemConstant.CODE_CODE_PREFIX + defaultErrorKey, String.valueOf(status.value()));
+    final String defaultTitle =
+        ProblemMessageProvider.getMessage(
+            ProblemConstant.TITLE_CODE_PREFIX + defaultErrorKey, status.getReasonPhrase());
+    final String defaultDetail =
+        ProblemMessageProvider.findMessage(ProblemConstant.DETAIL_CODE_PREFIX + defaultErrorKey);
+    final String detail = ProblemMessageProvider.findMessage(detailCode);
+
+    return new Template(
+        codeCode,
+        titleCode,
+        detailCode,
+        ProblemConstant.STATUS_CODE_PREFIX + errorKey,
+        ProblemMessageProvider.getMessage(codeCode, defaultCode),
+        ProblemMessageProvider.getMessage(titleCode, defaultTitle),
+        detail != null ? detail : defaultDetail,
+        defaultCode,
+        defaultTitle,
+        defaultDetail);
+  }
+
+  private static Optional<HttpStatus> resolveStatusOverride(
+      final Class<? extends Throwable> type, final Locale locale) {
+    final String statusCode =
+        ProblemMessageProvider.findMessage(
+            ProblemConstant.STATUS_CODE_PREFIX + ClassUtils.getName(type), locale);
+    if (statusCode == null) {
+      return Optional.empty();
+    }
+    final String status = statusCode.trim();
+    // Valid HTTP status codes are always of 3 digits, so need not parse anything else
+    if (status.length() != 3 || !StringUtils.isNumeric(status)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(HttpStatus.resolve(Integer.parseInt(status)));
+  }
+
+  /**
+   * Problem attributes resolved for an exception class in a given locale. The {@code detail} is
+   * {@code null} if no detail message is defined either for the exception class or for the default
+   * error key, in which case the exception message is supposed to be used as detail.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static final class Template {
+
+    /** Message code for code of the exception class. */
+    private final String codeCode;
+
+    /** Message code for title of the exception class. */
+    private final String titleCode;
+
+    /** Message code for detail of the exception class. */
+    private final String detailCode;
+
+    /** Message code for status of the exception class. */
+    private final String statusCode;
+
+    /** Resolved code. */
+    private final String code;
+
+    /** Resolved title. */
+    private final String title;
+
+    /** Resolved detail, {@code null} if not defined. */
+    @Nullable private final String detail;
+
+    /** Code resolved for default error key. */
+    private final String defaultCode;
+
+    /** Title resolved for default error key. */
+    private final String defaultTitle;
+
+    /** Detail resolved for default error key, {@code null} if not defined. */
+    @Nullable private final String defaultDetail;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class Key {
+
+    private final Class<? extends Throwable> type;
+
+    private final String defaultErrorKey;
+
+    private final HttpStatus status;
+
+    private final Locale locale;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class StatusKey {
+
+    private final Class<? extends Throwable> type;
+
+    private final Locale locale;
+  }
+}
@@ -0,0 +1,36 @@
+package com.ksoot.problem.spring.config;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+/**
+ * {@link ReloadableResourceBundleMessageSource} evicting the cached problem templates and the
+ * negative cache of {@link ProblemMessageProvider} along with its own cache, so that messages
+ * reloaded at runtime are picked up by problems right away instead of after the cache expiry.
+ *
+ * <p>The caches are evicted on {@link #clearCache()} and whenever a properties file is reloaded as
+ * modified, once {@code cacheSeconds} elapsed. Define it as the {@code messageSource} bean in place
+ * of {@link ReloadableResourceBundleMessageSource} if message bundles are reloaded at runtime.
+ *
+ * @author Rajveer Singh
+ */
+public class ReloadableProblemMessageSource extends ReloadableResourceBundleMessageSource {
+
+  /** {@inheritDoc} */
+  @Override
+  public void clearCache() {
+    super.clearCache();
+    ProblemTemplateCache.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected PropertiesHolder refreshProperties(
+      final String filename, @Nullable final PropertiesHolder propHolder) {
+    final PropertiesHolder refreshed = super.refreshProperties(filename, propHolder);
+    if (propHolder != null && refreshed.getFileTimestamp() != propHolder.getFileTimestamp()) {
+      ProblemTemplateCache.clear();
+    }
+    return refreshed;
+  }
+}
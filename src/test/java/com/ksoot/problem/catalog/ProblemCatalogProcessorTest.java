@@ -0,0 +1,173 @@
+package com.ksoot.problem.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProblemCatalogProcessorTest {
+
+  private static final String SOURCE =
+      "package demo;\n"
+          + "@com.ksoot.problem.catalog.CompileProblemCatalog(locales = \"fr\")\n"
+          + "public class Errors {}\n";
+
+  @TempDir Path directory;
+
+  @Test
+  void generatesCatalogResolvingMessagesPerLocale() throws Exception {
+    final Compilation compilation =
+        compile(
+            Map.of(
+                "i18n/problems.properties",
+                "title.demo=Invalid order\ndetail.demo=Order {0} is invalid\n",
+                "i18n/problems_fr.properties",
+                "title.demo=Commande invalide\n"));
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+    final ProblemCatalog catalog = compilation.catalog();
+    assertEquals("Commande invalide", catalog.getMessage("title.demo", null, Locale.FRANCE));
+    assertEquals("Invalid order", catalog.getMessage("title.demo", null, Locale.ROOT));
+    // Falls back to base bundle for the messages not translated
+    assertEquals(
+        "Order 42 is invalid", catalog.getMessage("detail.demo", new Object[] {42}, Locale.FRENCH));
+    assertNull(catalog.getMessage("title.unknown", null, Locale.FRENCH));
+  }
+
+  @Test
+  void registersCatalogAsServiceProvider() throws Exception {
+    final Compilation compilation =
+        compile(Map.of("i18n/problems.properties", "", "i18n/problems_fr.properties", ""));
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+    assertEquals(
+        List.of("demo.ErrorsProblemCatalog"),
+        Files.readAllLines(
+            this.directory.resolve("out/META-INF/services/" + ProblemCatalog.class.getName())));
+  }
+
+  @Test
+  void failsOnInvalidMessagePattern() throws Exception {
+    final Compilation compilation =
+        compile(
+            Map.of(
+                "i18n/problems.properties",
+                "detail.demo=Order {0 is invalid\n",
+                "i18n/problems_fr.properties",
+                ""));
+
+    assertFalse(compilation.success());
+    assertTrue(
+        compilation.errors().get(0).startsWith("Invalid message pattern for key 'detail.demo'"));
+  }
+
+  @Test
+  void acceptsLiteralBracesInMessagesWithoutArguments() throws Exception {
+    final Compilation compilation =
+        compile(
+            Map.of(
+                "i18n/problems.properties",
+                "detail.demo=Use {name} here\n",
+                "i18n/problems_fr.properties",
+                ""));
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+    assertEquals(
+        "Use {name} here", compilation.catalog().getMessage("detail.demo", null, Locale.ROOT));
+  }
+
+  @Test
+  void failsOnInvalidStatus() throws Exception {
+    final Compilation compilation =
+        compile(
+            Map.of(
+                "i18n/problems.properties",
+                "status.demo=4000\n",
+                "i18n/problems_fr.properties",
+                ""));
+
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().get(0).startsWith("Invalid HTTP status '4000'"));
+  }
+
+  @Test
+  void failsOnMissingBundleOfLocale() throws Exception {
+    final Compilation compilation = compile(Map.of("i18n/problems.properties", ""));
+
+    assertFalse(compilation.success());
+    assertEquals(List.of("No problem message bundle found for locale 'fr'"), compilation.errors());
+  }
+
+  private Compilation compile(final Map<String, String> bundles) throws IOException {
+    final Path sources = this.directory.resolve("src");
+    final Path output = Files.createDirectories(this.directory.resolve("out"));
+    final Path source = sources.resolve("demo/Errors.java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, SOURCE, StandardCharsets.UTF_8);
+    for (final Map.Entry<String, String> bundle : bundles.entrySet()) {
+      final Path file = sources.resolve(bundle.getKey());
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, bundle.getValue(), StandardCharsets.ISO_8859_1);
+    }
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8)) {
+      final boolean success =
+          compiler
+              .getTask(
+                  null,
+                  fileManager,
+                  diagnostics,
+                  List.of(
+                      "-classpath",
+                      System.getProperty("java.class.path"),
+                      "-sourcepath",
+                      sources.toString(),
+                      "-d",
+                      output.toString(),
+                      "-processor",
+                      ProblemCatalogProcessor.class.getName()),
+                  null,
+                  fileManager.getJavaFileObjects(source))
+              .call();
+      final List<String> errors =
+          diagnostics.getDiagnostics().stream()
+              .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+              .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+              .toList();
+      return new Compilation(success, errors, output);
+    }
+  }
+
+  private record Compilation(boolean success, List<String> errors, Path output) {
+
+    private ProblemCatalog catalog() throws Exception {
+      final URLClassLoader classLoader =
+          new URLClassLoader(
+              new URL[] {this.output.toUri().toURL()},
+              ProblemCatalogProcessorTest.class.getClassLoader());
+      return (ProblemCatalog)
+          classLoader.loadClass("demo.ErrorsProblemCatalog").getDeclaredConstructor().newInstance();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class ContentNegotiationTest {
+
+  private final AtomicInteger resolutions = new AtomicInteger();
+
+  @Test
+  void negotiatesOnlyOncePerAcceptHeader() {
+    final String accept = "application/problem+json;q=0.9, text/html;level=1";
+
+    assertEquals(Optional.of(MediaTypes.PROBLEM), negotiate(accept));
+    assertEquals(Optional.of(MediaTypes.PROBLEM), negotiate(accept));
+    assertEquals(1, this.resolutions.get());
+  }
+
+  @Test
+  void keepsNegotiatingOnceFullOfOtherHeaders() {
+    for (int i = 0; i < 1000; i++) {
+      negotiate("application/json;v=" + i);
+    }
+    this.resolutions.set(0);
+
+    negotiate("application/json;v=recent");
+    negotiate("application/json;v=recent");
+
+    assertEquals(1, this.resolutions.get());
+  }
+
+  private Optional<MediaType> negotiate(final String accept) {
+    final Supplier<List<MediaType>> mediaTypes =
+        () -> {
+          this.resolutions.incrementAndGet();
+          return MediaType.parseMediaTypes(accept);
+        };
+    return ContentNegotiation.problemMediaType(accept, mediaTypes);
+  }
+}
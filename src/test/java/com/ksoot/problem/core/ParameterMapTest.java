@@ -0,0 +1,84 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ParameterMapTest {
+
+  @Test
+  void keepsInsertionOrderAndReplacesValueOfSameKey() {
+    final ParameterMap map =
+        ParameterMap.builder(1).put("a", 1).put("b", 2).put("a", 3).put("c", null).build();
+
+    assertEquals(3, map.size());
+    assertEquals(List.of("a", "b", "c"), List.copyOf(map.keySet()));
+    assertEquals(3, map.get("a"));
+    assertTrue(map.containsKey("c"));
+    assertNull(map.get("c"));
+    assertNull(map.get("d"));
+  }
+
+  @Test
+  void equalsOtherMapsHavingSameEntries() {
+    final Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put("a", 1);
+    expected.put("b", "two");
+
+    final ParameterMap map = ParameterMap.of("a", 1, "b", "two");
+
+    assertEquals(expected, map);
+    assertEquals(expected.hashCode(), map.hashCode());
+  }
+
+  @Test
+  void returnsEmptyMapIfNothingPut() {
+    assertSame(ParameterMap.EMPTY, ParameterMap.builder(4).build());
+    assertSame(ParameterMap.EMPTY, ParameterMap.copyOf(null));
+    assertSame(ParameterMap.EMPTY, ParameterMap.copyOf(Map.of()));
+  }
+
+  @Test
+  void sharesParameterMapPutInWholeUntilModified() {
+    final ParameterMap map = ParameterMap.of("a", 1);
+
+    assertSame(map, ParameterMap.copyOf(map));
+    assertSame(map, ParameterMap.builder(1).putAll(map).build());
+
+    final ParameterMap extended = ParameterMap.builder(1).putAll(map).put("b", 2).build();
+
+    assertEquals(Map.of("a", 1, "b", 2), extended);
+    assertEquals(Map.of("a", 1), map);
+  }
+
+  @Test
+  void doesNotAffectMapsBuiltOnFurtherUseOfBuilder() {
+    final ParameterMap.Builder builder = ParameterMap.builder(2).put("a", 1);
+    final ParameterMap first = builder.build();
+
+    builder.put("a", 2).put("b", 3);
+
+    assertEquals(Map.of("a", 1), first);
+    assertEquals(Map.of("a", 2, "b", 3), builder.build());
+  }
+
+  @Test
+  void isImmutable() {
+    final ParameterMap map = ParameterMap.of("a", 1);
+
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+  }
+
+  @Test
+  void rejectsNullKey() {
+    assertThrows(IllegalArgumentException.class, () -> ParameterMap.builder(1).put(null, 1));
+  }
+}
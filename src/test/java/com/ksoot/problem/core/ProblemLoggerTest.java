@@ -0,0 +1,175 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpStatus;
+
+class ProblemLoggerTest {
+
+  private static final Duration HOUR = Duration.ofHours(1);
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private Logger logger;
+
+  @BeforeEach
+  void setUp() {
+    this.logger = new LoggerContext().getLogger(ProblemLoggerTest.class);
+    this.appender.start();
+    this.logger.addAppender(this.appender);
+  }
+
+  @Test
+  void logsAsPerPolicyOfStatusClass() {
+    final ProblemLogger problemLogger =
+        new ProblemLogger(
+            ProblemLogger.Policy.DEFAULT,
+            Map.of("4xx", new ProblemLogger.Policy(Level.WARN, false, 0, HOUR, null)),
+            8,
+            100);
+
+    problemLogger.log(this.logger, new IllegalArgumentException("bad"), HttpStatus.NOT_FOUND, null);
+    problemLogger.log(
+        this.logger, new IllegalStateException("failed"), HttpStatus.BAD_GATEWAY, null);
+
+    final List<ILoggingEvent> events = this.appender.list;
+    assertEquals(2, events.size());
+    assertEquals(ch.qos.logback.classic.Level.WARN, events.get(0).getLevel());
+    assertEquals("Not Found: java.lang.IllegalArgumentException: bad", events.get(0).getMessage());
+    assertNull(events.get(0).getThrowableProxy());
+    assertEquals(ch.qos.logback.classic.Level.ERROR, events.get(1).getLevel());
+    assertNotNull(events.get(1).getThrowableProxy());
+  }
+
+  @Test
+  void policyOfErrorCodeTakesPrecedence() {
+    final ProblemLogger problemLogger =
+        new ProblemLogger(
+            ProblemLogger.Policy.DEFAULT,
+            Map.of(
+                "4xx", new ProblemLogger.Policy(Level.WARN, false, 0, HOUR, null),
+                "XYZ-001", new ProblemLogger.Policy(Level.INFO, false, 0, HOUR, null)),
+            8,
+            100);
+
+    problemLogger.log(this.logger, new IllegalArgumentException(), HttpStatus.NOT_FOUND, "XYZ-001");
+
+    assertEquals(ch.qos.logback.classic.Level.INFO, this.appender.list.get(0).getLevel());
+  }
+
+  @Test
+  void suppressesOccurrencesBeyondRateLimit() {
+    final ProblemLogger problemLogger = rateLimited(2, null);
+    final IllegalStateException exception = new IllegalStateException("failed");
+
+    for (int i = 0; i < 5; i++) {
+      problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+    }
+
+    final List<ILoggingEvent> events = this.appender.list;
+    assertEquals(2, events.size());
+    final String fingerprint = StackTraceInterner.fingerprint(exception, 8);
+    assertEquals(
+        "Internal Server Error [fingerprint "
+            + fingerprint
+            + "]: java.lang.IllegalStateException: failed",
+        events.get(0).getFormattedMessage());
+  }
+
+  @Test
+  void summarizesSuppressedOccurrences() {
+    final ProblemLogger problemLogger = rateLimited(1, Duration.ZERO);
+    final IllegalStateException exception = new IllegalStateException("failed");
+
+    problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+    problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+    final List<ILoggingEvent> events = this.appender.list;
+    assertEquals(2, events.size());
+    assertTrue(
+        events.get(1).getFormattedMessage().contains("suppressed 1 occurrences of"),
+        events.get(1).getFormattedMessage());
+  }
+
+  @Test
+  void limitsRateOfEachFingerprintIndependently() {
+    final ProblemLogger problemLogger = rateLimited(1, null);
+    final IllegalStateException first = new IllegalStateException("first");
+    final IllegalArgumentException second = new IllegalArgumentException("second");
+
+    for (int i = 0; i < 3; i++) {
+      problemLogger.log(this.logger, first, HttpStatus.INTERNAL_SERVER_ERROR, null);
+      problemLogger.log(this.logger, second, HttpStatus.INTERNAL_SERVER_ERROR, null);
+    }
+
+    assertEquals(2, this.appender.list.size());
+  }
+
+  @Test
+  void appliesReconfiguredRateLimitToTrackedFingerprints() {
+    final ProblemLogger problemLogger = rateLimited(3, null);
+    final IllegalStateException exception = new IllegalStateException("failed");
+    problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+    problemLogger.configure(
+        new ProblemLogger.Policy(Level.ERROR, false, 1, HOUR, null), Map.of(), 8, 100);
+    problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+    problemLogger.log(this.logger, exception, HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+    assertEquals(2, this.appender.list.size());
+  }
+
+  @Test
+  void tellsWhetherStackTraceIsLoggedAsPerPolicies() {
+    final ProblemLogger.Policy withoutStackTrace =
+        new ProblemLogger.Policy(Level.WARN, false, 0, HOUR, null);
+    final ProblemLogger problemLogger =
+        new ProblemLogger(ProblemLogger.Policy.DEFAULT, Map.of("4xx", withoutStackTrace), 8, 100);
+
+    assertTrue(problemLogger.isStackTraceLogged());
+    assertFalse(problemLogger.isStackTraceLogged(HttpStatus.NOT_FOUND));
+    assertTrue(problemLogger.isStackTraceLogged(HttpStatus.BAD_GATEWAY));
+
+    problemLogger.configure(withoutStackTrace, Map.of(), 8, 100);
+    assertFalse(problemLogger.isStackTraceLogged());
+    assertFalse(problemLogger.isStackTraceLogged(HttpStatus.BAD_GATEWAY));
+  }
+
+  @Test
+  void stackTraceMayBeLoggedAsPerPolicyOfErrorCode() {
+    final ProblemLogger.Policy withoutStackTrace =
+        new ProblemLogger.Policy(Level.WARN, false, 0, HOUR, null);
+    final ProblemLogger problemLogger =
+        new ProblemLogger(
+            withoutStackTrace,
+            Map.of("404", withoutStackTrace, "XYZ-001", ProblemLogger.Policy.DEFAULT),
+            8,
+            100);
+
+    assertTrue(problemLogger.isStackTraceLogged(HttpStatus.NOT_FOUND));
+  }
+
+  private static ProblemLogger rateLimited(
+      final int rateLimit, @Nullable final Duration summaryInterval) {
+    return new ProblemLogger(
+        new ProblemLogger.Policy(Level.ERROR, false, rateLimit, HOUR, summaryInterval),
+        Map.of(),
+        8,
+        100);
+  }
+}
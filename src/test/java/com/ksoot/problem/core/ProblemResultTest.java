@@ -0,0 +1,134 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ksoot.problem.spring.config.ProblemMessageProvider;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+
+class ProblemResultTest {
+
+  private static final String ERROR_KEY = "order.invalid";
+
+  private final StaticMessageSource messageSource = new StaticMessageSource();
+
+  @BeforeEach
+  void setUp() {
+    this.messageSource.addMessage("code." + ERROR_KEY, Locale.ROOT, "ORD-001");
+    this.messageSource.addMessage("title." + ERROR_KEY, Locale.ROOT, "Invalid order");
+    this.messageSource.addMessage("detail." + ERROR_KEY, Locale.ROOT, "Order {0} is invalid");
+    new ProblemMessageProvider(this.messageSource);
+    ProblemMessageProvider.clearCache();
+    LocaleContextHolder.setLocale(Locale.ROOT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+    ProblemMessageProvider.clearCache();
+  }
+
+  @Test
+  void mapsValueOfSuccessfulResult() {
+    final ProblemResult<Integer> result = ProblemResult.success("42").map(Integer::valueOf);
+
+    assertTrue(result.isSuccess());
+    assertEquals(42, result.getValue());
+    assertNull(result.getStatus());
+    assertNull(result.getProblem());
+    assertEquals(42, result.orElseThrow());
+  }
+
+  @Test
+  void keepsFailedResultAsIsWhenMapped() {
+    final ProblemResult<String> result =
+        ProblemResult.failure(HttpStatus.BAD_REQUEST, ERROR_KEY, null, new Object[] {42}, null);
+
+    assertSame(result, result.map(value -> value + "!"));
+    assertFalse(result.isSuccess());
+    assertNull(result.getValue());
+  }
+
+  @Test
+  void resolvesMessagesOfFailureByErrorKey() {
+    final ProblemResult<String> result =
+        ProblemResult.failure(HttpStatus.BAD_REQUEST, ERROR_KEY, null, new Object[] {42}, null);
+
+    assertEquals(HttpStatus.BAD_REQUEST, result.getStatus());
+    assertEquals("ORD-001", result.getProblem().getCode());
+    assertEquals("Invalid order", result.getProblem().getTitle());
+    assertEquals("Order 42 is invalid", result.getProblem().getDetail());
+  }
+
+  @Test
+  void resolvesMessagesOnlyWhenAccessed() {
+    final ProblemResult<String> result =
+        ProblemResult.failure(
+            HttpStatus.CONFLICT, "order.duplicate", "Duplicate order", null, null);
+    this.messageSource.addMessage("code.order.duplicate", Locale.ROOT, "ORD-002");
+
+    assertEquals("ORD-002", result.getProblem().getCode());
+    assertEquals("Conflict", result.getProblem().getTitle());
+    assertEquals("Duplicate order", result.getProblem().getDetail());
+  }
+
+  @Test
+  void resolvesMessagesInLocaleOfCreation() {
+    this.messageSource.addMessage("title." + ERROR_KEY, Locale.FRENCH, "Commande invalide");
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    final ProblemResult<String> result =
+        ProblemResult.failure(HttpStatus.BAD_REQUEST, ERROR_KEY, null, new Object[] {42}, null);
+    LocaleContextHolder.setLocale(Locale.ROOT);
+
+    assertEquals("Commande invalide", result.getProblem().getTitle());
+  }
+
+  @Test
+  void defaultsStatusOfErrorTypeToInternalServerError() {
+    final ErrorType errorType =
+        new ErrorType() {
+          @Override
+          public String getErrorKey() {
+            return ERROR_KEY;
+          }
+
+          @Override
+          public String getDefaultDetail() {
+            return null;
+          }
+
+          @Override
+          public HttpStatus getStatus() {
+            return null;
+          }
+        };
+
+    final ProblemResult<String> result = ProblemResult.failure(errorType, 42);
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
+    assertEquals("Order 42 is invalid", result.getProblem().getDetail());
+  }
+
+  @Test
+  void throwsFailureAsApplicationProblem() {
+    final ProblemResult<String> result =
+        ProblemResult.failure(HttpStatus.BAD_REQUEST, ERROR_KEY, null, new Object[] {42}, null);
+
+    final ApplicationProblem problem = assertThrows(ApplicationProblem.class, result::orElseThrow);
+
+    assertEquals(HttpStatus.BAD_REQUEST, problem.getStatus());
+    assertEquals(ERROR_KEY, problem.getErrorKey());
+    assertArrayEquals(new Object[] {42}, problem.getDetailArgs());
+  }
+}
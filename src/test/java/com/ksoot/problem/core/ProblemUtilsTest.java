@@ -0,0 +1,120 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ksoot.problem.spring.config.ProblemEngine;
+import com.ksoot.problem.spring.config.ProblemMessageProvider;
+import com.ksoot.problem.spring.config.ProblemProperties;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+class ProblemUtilsTest {
+
+  private final ProblemProperties properties = new ProblemProperties();
+
+  @BeforeEach
+  void setUp() {
+    final StaticMessageSource messageSource = new StaticMessageSource();
+    messageSource.addMessage(
+        "code." + IllegalStateException.class.getName(), Locale.ROOT, "STATE-001");
+    messageSource.addMessage(
+        "title." + IllegalStateException.class.getName(), Locale.ROOT, "Invalid state");
+    new ProblemMessageProvider(messageSource);
+    this.properties.setCauseChainsEnabled(true);
+    register(this.properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    register(new ProblemProperties());
+  }
+
+  @Test
+  void convertsCausesFromStatusReasonPhraseAndMessage() {
+    final ThrowableProblem cause =
+        ProblemUtils.toCauseProblem(
+            new IllegalArgumentException(
+                "Order not placed",
+                new ConflictException(new IllegalStateException("Stock exhausted"))));
+
+    assertEquals("409", cause.getCode());
+    assertEquals("Conflict", cause.getTitle());
+    assertEquals("Order already placed", cause.getDetail());
+    // Not localized by exception class
+    assertEquals("500", cause.getCause().getCode());
+    assertEquals("Internal Server Error", cause.getCause().getTitle());
+    assertEquals("Stock exhausted", cause.getCause().getDetail());
+    assertNull(cause.getCause().getCause());
+  }
+
+  @Test
+  void convertsCausesUpToMaxDepth() {
+    this.properties.setCauseChainsMaxDepth(1);
+    register(this.properties);
+
+    final ThrowableProblem cause =
+        ProblemUtils.toCauseProblem(
+            new IllegalArgumentException(
+                "Order not placed",
+                new ConflictException(new IllegalStateException("Stock exhausted"))));
+
+    assertEquals("Order already placed", cause.getDetail());
+    assertNull(cause.getCause());
+  }
+
+  @Test
+  void capturesStackTraceOfStacklessProblemsOnlyIfLoggedAsPerPolicy() {
+    final ProblemProperties.LogPolicy withoutStackTrace = new ProblemProperties.LogPolicy();
+    withoutStackTrace.setStacktrace(false);
+    this.properties.getLogging().getPolicies().put("4xx", withoutStackTrace);
+    this.properties.setStacklessEnabled(true);
+    register(this.properties);
+
+    assertFalse(ProblemUtils.isStackTraceWritable(false, HttpStatus.NOT_FOUND));
+    assertTrue(ProblemUtils.isStackTraceWritable(false, HttpStatus.INTERNAL_SERVER_ERROR));
+    assertTrue(ProblemUtils.isStackTraceWritable(true, null));
+    assertTrue(ProblemUtils.isStackTraceNeeded());
+  }
+
+  @Test
+  void needsNoStackTraceIfNeitherIncludedNorLogged() {
+    this.properties.getLogging().getDefaultPolicy().setStacktrace(false);
+    register(this.properties);
+
+    assertFalse(ProblemUtils.isStackTraceNeeded());
+    assertFalse(ProblemUtils.isStackTraceWritable(true, HttpStatus.INTERNAL_SERVER_ERROR));
+    assertTrue(ProblemUtils.isStackTraceWritable(false, HttpStatus.INTERNAL_SERVER_ERROR));
+
+    this.properties.setStacktraceEnabled(true);
+    register(this.properties);
+    assertTrue(ProblemUtils.isStackTraceNeeded());
+    assertTrue(ProblemUtils.isStackTraceWritable(true, HttpStatus.INTERNAL_SERVER_ERROR));
+  }
+
+  private static void register(final ProblemProperties properties) {
+    new ProblemEngine(
+        properties,
+        new StandardEnvironment(),
+        new StaticListableBeanFactory()
+            .getBeanProvider(ResolvableType.forClass(ErrorResponseBuilder.class)));
+  }
+
+  @ResponseStatus(HttpStatus.CONFLICT)
+  private static final class ConflictException extends RuntimeException {
+
+    private ConflictException(final Throwable cause) {
+      super("Order already placed", cause);
+    }
+  }
+}
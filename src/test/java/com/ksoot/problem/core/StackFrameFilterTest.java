@@ -0,0 +1,76 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StackFrameFilterTest {
+
+  private final StackFrameFilter filter =
+      new StackFrameFilter(
+          List.of("org.springframework.samples."), List.of("org.springframework.", "java."));
+
+  @Test
+  void collapsesRunsOfExcludedFrames() {
+    final StackTraceElement[] processed =
+        this.filter.process(
+            new StackTraceElement[] {
+              frame("com.example.Service"),
+              frame("org.springframework.aop.Proxy"),
+              frame("org.springframework.aop.Invocation"),
+              frame("com.example.Controller"),
+              frame("java.lang.Thread")
+            });
+
+    assertEquals(4, processed.length);
+    assertEquals("com.example.Service", processed[0].getClassName());
+    assertTrue(StackFrameFilter.isOmittedFrames(processed[1]));
+    assertEquals("... 2 frames omitted", StackFrameFilter.toString(processed[1]));
+    assertEquals("com.example.Controller", processed[2].getClassName());
+    assertEquals("... 1 frame omitted", StackFrameFilter.toString(processed[3]));
+  }
+
+  @Test
+  void alwaysKeepsTopFrame() {
+    final StackTraceElement top = frame("org.springframework.web.Dispatcher");
+
+    final StackTraceElement[] processed = this.filter.process(new StackTraceElement[] {top});
+
+    assertArrayEquals(new StackTraceElement[] {top}, processed);
+  }
+
+  @Test
+  void longestMatchingPrefixWins() {
+    final StackTraceElement[] processed =
+        this.filter.process(
+            new StackTraceElement[] {
+              frame("com.example.Service"), frame("org.springframework.samples.petclinic.Owner")
+            });
+
+    assertEquals(2, processed.length);
+    assertFalse(StackFrameFilter.isOmittedFrames(processed[1]));
+  }
+
+  @Test
+  void excludesCglibClassesUnlessIncluded() {
+    final StackTraceElement[] processed =
+        this.filter.process(
+            new StackTraceElement[] {
+              frame("com.example.Service"),
+              frame("com.example.Service$$SpringCGLIB$$0"),
+              frame("org.springframework.samples.Owner$$SpringCGLIB$$0")
+            });
+
+    assertEquals(3, processed.length);
+    assertTrue(StackFrameFilter.isOmittedFrames(processed[1]));
+    assertFalse(StackFrameFilter.isOmittedFrames(processed[2]));
+  }
+
+  private static StackTraceElement frame(final String className) {
+    return new StackTraceElement(className, "method", "Source.java", 1);
+  }
+}
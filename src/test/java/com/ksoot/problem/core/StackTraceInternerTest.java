@@ -0,0 +1,93 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StackTraceInternerTest {
+
+  private final StackTraceInterner interner = new StackTraceInterner(2, 100);
+
+  @Test
+  void takesSameFingerprintForSameCodePath() {
+    final List<String> fingerprints = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      fingerprints.add(StackTraceInterner.fingerprint(new IllegalStateException(), 16));
+    }
+
+    assertEquals(fingerprints.get(0), fingerprints.get(1));
+    assertTrue(fingerprints.get(0).matches("[0-9a-f]{16}"));
+  }
+
+  @Test
+  void takesSameFingerprintOfWalkedFramesForSameCodePath() {
+    final List<String> fingerprints = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      fingerprints.add(walkedFingerprint());
+    }
+
+    assertEquals(fingerprints.get(0), fingerprints.get(1));
+  }
+
+  @Test
+  void takesFingerprintFromTypeAndTopFrames() {
+    final StackTraceElement[] stackTrace = {frame("a", 1), frame("b", 2), frame("c", 3)};
+
+    final String fingerprint = this.interner.fingerprint(IllegalStateException.class, stackTrace);
+
+    assertEquals(
+        fingerprint,
+        this.interner.fingerprint(
+            IllegalStateException.class, new StackTraceElement[] {frame("a", 1), frame("b", 2)}));
+    assertNotEquals(
+        fingerprint,
+        this.interner.fingerprint(
+            IllegalStateException.class, new StackTraceElement[] {frame("a", 1), frame("b", 3)}));
+    assertNotEquals(
+        fingerprint, this.interner.fingerprint(IllegalArgumentException.class, stackTrace));
+  }
+
+  @Test
+  void internsFirstOccurrenceAndSharesItAfterwards() {
+    final StackTraceElement[] first = {frame("a", 1)};
+    final StackTraceElement[] second = {frame("a", 1)};
+
+    assertNull(this.interner.get("0123456789abcdef"));
+    final StackTraceInterner.Interned interned = this.interner.intern("0123456789abcdef", first);
+    final StackTraceInterner.Interned again = this.interner.intern("0123456789abcdef", second);
+
+    assertTrue(interned.isFirst());
+    assertSame(first, interned.getStackTrace());
+    assertFalse(again.isFirst());
+    assertSame(first, again.getStackTrace());
+    assertSame(first, this.interner.get("0123456789abcdef").getStackTrace());
+    assertFalse(this.interner.get("0123456789abcdef").isFirst());
+  }
+
+  @Test
+  void internsUpToMaxSize() {
+    final StackTraceInterner bounded = new StackTraceInterner(2, 1);
+
+    bounded.intern("0000000000000001", new StackTraceElement[] {frame("a", 1)});
+    bounded.intern("0000000000000002", new StackTraceElement[] {frame("b", 2)});
+
+    assertNull(bounded.get("0000000000000001"));
+    assertEquals(1, bounded.stats().evictionCount());
+  }
+
+  private String walkedFingerprint() {
+    return StackWalker.getInstance()
+        .walk(frames -> this.interner.fingerprint(IllegalStateException.class, frames));
+  }
+
+  private static StackTraceElement frame(final String method, final int line) {
+    return new StackTraceElement("demo.Orders", method, "Orders.java", line);
+  }
+}
@@ -0,0 +1,104 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StackTraceRendererTest {
+
+  @Test
+  void rendersFramesOnSingleLine() {
+    final RuntimeException exception = exception("first\nsecond", "a.A", "b.B");
+
+    assertEquals(
+        "java.lang.RuntimeException: first second at a.A.run(A.java:1) at b.B.run(B.java:1)",
+        StackTraceRenderer.UNBOUNDED.render(exception));
+  }
+
+  @Test
+  void collapsesFramesInCommonWithEnclosingTrace() {
+    final RuntimeException cause = exception("cause", "c.C", "b.B");
+    final RuntimeException exception = exception("failed", "a.A", "b.B");
+    exception.initCause(cause);
+
+    assertEquals(
+        "java.lang.RuntimeException: failed at a.A.run(A.java:1) at b.B.run(B.java:1)"
+            + " Caused by: java.lang.RuntimeException: cause at c.C.run(C.java:1) ... 1 more",
+        StackTraceRenderer.UNBOUNDED.render(exception));
+  }
+
+  @Test
+  void rendersSuppressedAndCircularReferences() {
+    final RuntimeException exception = exception("failed", "a.A");
+    final RuntimeException suppressed = exception("suppressed", "s.S");
+    exception.addSuppressed(suppressed);
+    suppressed.initCause(exception);
+
+    assertEquals(
+        "java.lang.RuntimeException: failed at a.A.run(A.java:1)"
+            + " Suppressed: java.lang.RuntimeException: suppressed at s.S.run(S.java:1)"
+            + " Caused by: [CIRCULAR REFERENCE: java.lang.RuntimeException: failed]",
+        StackTraceRenderer.UNBOUNDED.render(exception));
+  }
+
+  @Test
+  void rendersOmittedFrames() {
+    final RuntimeException exception = exception("failed", "a.A", "org.springframework.B");
+    exception.setStackTrace(
+        new StackFrameFilter(List.of(), List.of("org.springframework."))
+            .process(exception.getStackTrace()));
+
+    assertEquals(
+        "java.lang.RuntimeException: failed at a.A.run(A.java:1) ... 1 frame omitted",
+        StackTraceRenderer.UNBOUNDED.render(exception));
+  }
+
+  @Test
+  void rendersFramesSameAsStackTraceElement() {
+    final StackTraceElement jdkFrame =
+        new StackTraceElement(null, "java.base", "17", "java.lang.Thread", "run", "Thread.java", 1);
+    final StackTraceElement appFrame =
+        new StackTraceElement("app", "demo", "1.0", "a.A", "run", "A.java", 1);
+    final RuntimeException exception = new RuntimeException("failed");
+    exception.setStackTrace(new StackTraceElement[] {appFrame, jdkFrame});
+
+    assertEquals(
+        "java.lang.RuntimeException: failed at " + appFrame + " at " + jdkFrame,
+        StackTraceRenderer.UNBOUNDED.render(exception));
+  }
+
+  @Test
+  void truncatesToBudgetOfFrames() {
+    final RuntimeException exception = exception("failed", "a.A", "b.B", "c.C");
+
+    assertEquals(
+        "java.lang.RuntimeException: failed at a.A.run(A.java:1) ...",
+        new StackTraceRenderer(1, Integer.MAX_VALUE).render(exception));
+  }
+
+  @Test
+  void truncatesToBudgetOfCharacters() {
+    final RuntimeException exception = exception("failed", "a.A", "b.B");
+
+    final String rendered = new StackTraceRenderer(Integer.MAX_VALUE, 40).render(exception);
+
+    assertEquals(40 + " ...".length(), rendered.length());
+    assertTrue(rendered.endsWith(" ..."));
+    assertFalse(rendered.contains("b.B"));
+  }
+
+  private static RuntimeException exception(final String message, final String... classNames) {
+    final RuntimeException exception = new RuntimeException(message);
+    final StackTraceElement[] stackTrace = new StackTraceElement[classNames.length];
+    for (int i = 0; i < classNames.length; i++) {
+      final String className = classNames[i];
+      final String fileName = className.substring(className.lastIndexOf('.') + 1) + ".java";
+      stackTrace[i] = new StackTraceElement(className, "run", fileName, 1);
+    }
+    exception.setStackTrace(stackTrace);
+    return exception;
+  }
+}
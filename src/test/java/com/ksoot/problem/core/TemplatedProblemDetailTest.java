@@ -0,0 +1,116 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ksoot.problem.jackson.ProblemModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import tools.jackson.databind.json.JsonMapper;
+
+class TemplatedProblemDetailTest {
+
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+  @Test
+  void writesTemplateFollowedByMembersOfOccurrence() throws IOException {
+    final TemplatedProblemDetail problemDetail = problemDetail("Order 42 can not be placed");
+    problemDetail.setInstance(URI.create("/orders/42"));
+    problemDetail.setProperty("code", "ORD-001");
+    problemDetail.setProperty(
+        "timestamp", OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.UTC));
+    problemDetail.setProperty("method", HttpMethod.POST);
+    problemDetail.setProperty("count", 3);
+    problemDetail.setProperty("retryable", Boolean.FALSE);
+    problemDetail.setProperty("absent", null);
+
+    assertTrue(problemDetail.isTemplatable());
+    assertEquals(
+        "{\"type\":\"http://localhost/problems#ORD-001\",\"title\":\"Invalid order\","
+            + "\"status\":400,\"detail\":\"Order 42 can not be placed\","
+            + "\"instance\":\"/orders/42\",\"code\":\"ORD-001\","
+            + "\"timestamp\":\"2024-01-02T03:04:05.006Z\",\"method\":\"POST\",\"count\":3,"
+            + "\"retryable\":false,\"absent\":null}",
+        write(problemDetail));
+  }
+
+  @Test
+  void escapesStringsSameAsJackson() throws IOException {
+    final String detail = "Order \"42\" can't be\tplaced\\ \u0001 caf\u00e9 \u20ac \ud83d\ude00";
+
+    final String json = write(problemDetail(detail));
+
+    assertTrue(json.contains(JSON_MAPPER.writeValueAsString(detail)), json);
+    assertEquals(detail, JSON_MAPPER.readTree(json).get("detail").asString());
+  }
+
+  @Test
+  void omitsEmptyDetail() throws IOException {
+    assertEquals(
+        "{\"type\":\"http://localhost/problems#ORD-001\",\"title\":\"Invalid order\","
+            + "\"status\":400}",
+        write(problemDetail("")));
+  }
+
+  @Test
+  void writesSameJsonAsMapper() throws IOException {
+    final JsonMapper jsonMapper =
+        JsonMapper.builder()
+            .addModule(new ProblemModule())
+            .addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class)
+            .build();
+    final TemplatedProblemDetail problemDetail = problemDetail("Order 42 can not be placed");
+    problemDetail.setInstance(URI.create("/orders/42"));
+    problemDetail.setProperty("code", "ORD-001");
+    problemDetail.setProperty("method", HttpMethod.POST);
+    problemDetail.setProperty("count", 3);
+    problemDetail.setProperty("absent", null);
+
+    assertEquals(
+        jsonMapper.readTree(jsonMapper.writeValueAsBytes(problemDetail)),
+        jsonMapper.readTree(write(problemDetail)));
+  }
+
+  @Test
+  void isNotTemplatableWithPropertiesOfComplexTypes() {
+    final TemplatedProblemDetail problemDetail = problemDetail("Invalid order");
+    problemDetail.setProperty("violations", List.of("quantity"));
+
+    assertFalse(problemDetail.isTemplatable());
+  }
+
+  @Test
+  void reusesRenderedTemplateOfSameTypeTitleAndStatus() {
+    final URI type = URI.create("http://localhost/problems#ORD-001");
+
+    assertSame(
+        ResponseTemplates.template(type, "Bad Request", 400),
+        ResponseTemplates.template(type, "Bad Request", 400));
+  }
+
+  private static TemplatedProblemDetail problemDetail(final String detail) {
+    final TemplatedProblemDetail problemDetail =
+        new TemplatedProblemDetail(
+            HttpStatus.BAD_REQUEST, new DefaultProblem("ORD-001", "Invalid order", detail, null));
+    problemDetail.setType(URI.create("http://localhost/problems#ORD-001"));
+    return problemDetail;
+  }
+
+  private static String write(final TemplatedProblemDetail problemDetail) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    problemDetail.writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,66 @@
+package com.ksoot.problem.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ThrowableProblemTest {
+
+  @Test
+  void takesStackTraceOnlyFromWalkedFrames() {
+    final RecordingProblem problem = new RecordingProblem(true);
+
+    assertEquals(1, problem.fillIns);
+    assertEquals(0, problem.nativeFrames);
+    assertEquals(getClass().getName(), problem.getStackTrace()[0].getClassName());
+  }
+
+  @Test
+  void takesNoStackTraceIfStackless() {
+    final RecordingProblem problem = new RecordingProblem(false);
+
+    assertEquals(0, problem.fillIns);
+    assertEquals(0, problem.getStackTrace().length);
+  }
+
+  @Test
+  void fillsInStackTraceIfAskedOnceConstructed() {
+    final RecordingProblem problem = new RecordingProblem(true);
+
+    problem.fillInStackTrace();
+
+    assertEquals(2, problem.fillIns);
+    assertTrue(problem.nativeFrames > 0);
+  }
+
+  private static final class RecordingProblem extends ThrowableProblem {
+
+    // Not initialized, as set while the superclass constructor is running
+    private int fillIns;
+
+    private int nativeFrames;
+
+    private RecordingProblem(final boolean stackTrace) {
+      super(null, stackTrace);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      final Throwable throwable = super.fillInStackTrace();
+      this.fillIns++;
+      this.nativeFrames = getStackTrace().length;
+      return throwable;
+    }
+
+    @Override
+    public String getCode() {
+      return "TEST-001";
+    }
+
+    @Override
+    public String getTitle() {
+      return "Test problem";
+    }
+  }
+}
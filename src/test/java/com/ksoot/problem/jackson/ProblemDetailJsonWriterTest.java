@@ -0,0 +1,151 @@
+package com.ksoot.problem.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ksoot.problem.core.ProblemConstant;
+import com.ksoot.problem.core.Problems;
+import com.ksoot.problem.core.ThrowableProblem;
+import com.ksoot.problem.spring.advice.validation.ViolationVM;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemDetailJsonWriterTest {
+
+  private static final JsonMapper JSON_MAPPER =
+      JsonMapper.builder()
+          .addModule(new ProblemModule())
+          .addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class)
+          .build();
+
+  private final ProblemDetailJsonWriter writer = new ProblemDetailJsonWriter(JSON_MAPPER);
+
+  @Test
+  void writesSameJsonAsMapper() {
+    final ProblemDetail problemDetail = problemDetail();
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForCauses() {
+    final ThrowableProblem rootCause =
+        Problems.newInstance("DB-001", "Connection refused", "Database is down").build();
+    final ThrowableProblem cause =
+        Problems.newInstance("ORD-002", "Order not saved", "Order 42 could not be saved")
+            .cause(rootCause)
+            .parameter("attempts", 3)
+            .build();
+    final ProblemDetail problemDetail = problemDetail();
+    problemDetail.setProperty(ProblemConstant.CAUSE_KEY, cause);
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForStackTraces() {
+    final ProblemDetail problemDetail = problemDetail();
+    problemDetail.setProperty(
+        ProblemConstant.STACKTRACE_KEY, new IllegalStateException().getStackTrace());
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForCollectionsAndMaps() {
+    final ProblemDetail problemDetail = problemDetail();
+    problemDetail.setProperty(
+        ProblemConstant.VIOLATIONS_KEY,
+        List.of(
+            Map.of("code", "NotNull", "propertyPath", "customer.name"),
+            Map.of("code", "Size", "propertyPath", "items", "max", 10)));
+    problemDetail.setProperty("tags", new String[] {"urgent", "retry"});
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForViolations() {
+    final Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("max", 10);
+    parameters.put("min", null);
+    final ProblemDetail problemDetail = problemDetail();
+    problemDetail.setProperty(
+        ProblemConstant.VIOLATIONS_KEY,
+        List.of(
+            ViolationVM.of("NotNull", "Name is required", "customer.name"),
+            ViolationVM.of("Quantity is out of range", ""),
+            parameters));
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForNullAndEmptyProperties() {
+    final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    problemDetail.setTitle("");
+    problemDetail.setProperty("hint", null);
+    problemDetail.setProperty("note", "");
+    problemDetail.setProperty("tags", List.of());
+    problemDetail.setProperty("labels", Map.of());
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperForCausesWithNullAndEmptyParameters() {
+    final Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("hint", null);
+    parameters.put("note", "");
+    parameters.put("tags", List.of());
+    final ThrowableProblem cause =
+        Problems.newInstance("ORD-002", "Order not saved", "").parameters(parameters).build();
+    final ProblemDetail problemDetail = problemDetail();
+    problemDetail.setProperty(ProblemConstant.CAUSE_KEY, cause);
+
+    assertSameJson(problemDetail);
+  }
+
+  @Test
+  void writesSameJsonAsMapperWithoutProperties() {
+    assertSameJson(ProblemDetail.forStatus(HttpStatus.NOT_FOUND));
+  }
+
+  private static ProblemDetail problemDetail() {
+    final ProblemDetail problemDetail =
+        ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Order 42 is invalid");
+    problemDetail.setType(URI.create("http://localhost/problems#ORD-001"));
+    problemDetail.setTitle("Invalid order");
+    problemDetail.setInstance(URI.create("/orders/42"));
+    problemDetail.setProperty(ProblemConstant.CODE_KEY, "ORD-001");
+    problemDetail.setProperty(
+        ProblemConstant.TIMESTAMP_KEY,
+        OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.UTC));
+    problemDetail.setProperty(ProblemConstant.METHOD_KEY, HttpMethod.POST);
+    problemDetail.setProperty("count", 3L);
+    problemDetail.setProperty("retryable", false);
+    return problemDetail;
+  }
+
+  private void assertSameJson(final ProblemDetail problemDetail) {
+    assertEquals(
+        JSON_MAPPER.readTree(JSON_MAPPER.writeValueAsBytes(problemDetail)), write(problemDetail));
+  }
+
+  private JsonNode write(final ProblemDetail problemDetail) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    this.writer.write(problemDetail, out);
+    return JSON_MAPPER.readTree(out.toByteArray());
+  }
+}
@@ -0,0 +1,127 @@
+package com.ksoot.problem.spring.advice.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ksoot.problem.core.ErrorResponseBuilder;
+import com.ksoot.problem.core.Problem;
+import com.ksoot.problem.core.Problems;
+import com.ksoot.problem.spring.config.ProblemEngine;
+import com.ksoot.problem.spring.config.ProblemProperties;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.StandardEnvironment;
+
+class MultiProblemConverterTest {
+
+  private static final int THRESHOLD = 100;
+
+  private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+  @BeforeEach
+  void setUp() {
+    final ProblemProperties properties = new ProblemProperties();
+    properties.getMultiProblem().setParallelEnabled(true);
+    properties.getMultiProblem().setParallelThreshold(THRESHOLD);
+    register(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+    MDC.clear();
+    register(new ProblemProperties());
+  }
+
+  @Test
+  void convertsOnCallingThreadBelowThreshold() {
+    final List<Object> errors = errors(THRESHOLD - 1);
+
+    final List<Problem> problems = MultiProblemConverter.convert(errors, this::convert);
+
+    assertEquals(expected(errors), codes(problems));
+    assertEquals(Set.of(Thread.currentThread().getName()), this.threads);
+  }
+
+  @Test
+  void convertsInParallelKeepingOrderOfErrors() {
+    final List<Object> errors = errors(1000);
+
+    final List<Problem> problems = MultiProblemConverter.convert(errors, this::convert);
+
+    assertEquals(expected(errors), codes(problems));
+    assertTrue(this.threads.contains(Thread.currentThread().getName()));
+    assertTrue(this.threads.stream().anyMatch(thread -> thread.startsWith("problem-conversion-")));
+  }
+
+  @Test
+  void propagatesLocaleAndMdcToWorkers() {
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    MDC.put("traceId", "4bf92f3577b34da6");
+    final Set<String> contexts = ConcurrentHashMap.newKeySet();
+
+    MultiProblemConverter.convert(
+        errors(1000),
+        error -> {
+          contexts.add(LocaleContextHolder.getLocale() + "/" + MDC.get("traceId"));
+          return convert(error);
+        });
+
+    assertEquals(Set.of("fr/4bf92f3577b34da6"), contexts);
+  }
+
+  @Test
+  void resolvesMessagesOfProblemsInWorkers() {
+    final Set<String> resolvingThreads = ConcurrentHashMap.newKeySet();
+
+    MultiProblemConverter.convert(
+        errors(1000),
+        error ->
+            Problems.deferred(
+                    "problem-" + error,
+                    () -> {
+                      resolvingThreads.add(Thread.currentThread().getName());
+                      return "Invalid item";
+                    },
+                    () -> null)
+                .build());
+
+    assertTrue(
+        resolvingThreads.stream().anyMatch(thread -> thread.startsWith("problem-conversion-")));
+  }
+
+  private static void register(final ProblemProperties properties) {
+    final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    new ProblemEngine(
+        properties,
+        new StandardEnvironment(),
+        beanFactory.getBeanProvider(ResolvableType.forClass(ErrorResponseBuilder.class)));
+  }
+
+  private Problem convert(final Object error) {
+    this.threads.add(Thread.currentThread().getName());
+    return Problems.newInstance("problem-" + error, "Invalid item", null).build();
+  }
+
+  private static List<Object> errors(final int count) {
+    return IntStream.range(0, count).<Object>mapToObj(Integer::valueOf).toList();
+  }
+
+  private static List<String> codes(final List<Problem> problems) {
+    return problems.stream().map(Problem::getCode).toList();
+  }
+
+  private static List<String> expected(final List<Object> errors) {
+    return errors.stream().map(error -> "problem-" + error).toList();
+  }
+}
@@ -0,0 +1,88 @@
+package com.ksoot.problem.spring.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.cache.CacheStats;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+class ProblemMessageProviderTest {
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  private final StaticMessageSource messageSource =
+      new StaticMessageSource() {
+        @Override
+        protected String resolveCodeWithoutArguments(final String code, final Locale locale) {
+          ProblemMessageProviderTest.this.lookups.incrementAndGet();
+          return super.resolveCodeWithoutArguments(code, locale);
+        }
+      };
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+    ProblemMessageProvider.clearCache();
+  }
+
+  @Test
+  void remembersMessageCodesNotFound() {
+    new ProblemMessageProvider(this.messageSource, new ProblemProperties.Cache());
+    LocaleContextHolder.setLocale(Locale.ROOT);
+    final CacheStats before = ProblemMessageProvider.negativeCacheStats();
+
+    assertEquals("Default", ProblemMessageProvider.getMessage("missing.code", "Default"));
+    final int lookups = this.lookups.get();
+    assertEquals("Default", ProblemMessageProvider.getMessage("missing.code", "Default"));
+    assertNull(ProblemMessageProvider.findMessage("missing.code"));
+
+    assertEquals(lookups, this.lookups.get());
+    final CacheStats stats = ProblemMessageProvider.negativeCacheStats().minus(before);
+    assertEquals(2, stats.hitCount());
+    assertEquals(1, stats.missCount());
+  }
+
+  @Test
+  void remembersMessageCodesNotFoundPerLocale() {
+    new ProblemMessageProvider(this.messageSource, new ProblemProperties.Cache());
+    this.messageSource.addMessage("some.code", Locale.FRENCH, "Message");
+
+    LocaleContextHolder.setLocale(Locale.GERMAN);
+    assertNull(ProblemMessageProvider.findMessage("some.code"));
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    assertEquals("Message", ProblemMessageProvider.findMessage("some.code"));
+  }
+
+  @Test
+  void findsMessagesAddedOnceCacheCleared() {
+    new ProblemMessageProvider(this.messageSource, new ProblemProperties.Cache());
+    LocaleContextHolder.setLocale(Locale.ROOT);
+
+    assertNull(ProblemMessageProvider.findMessage("added.code"));
+    this.messageSource.addMessage("added.code", Locale.ROOT, "Added");
+    assertNull(ProblemMessageProvider.findMessage("added.code"));
+
+    ProblemMessageProvider.clearCache();
+    assertEquals("Added", ProblemMessageProvider.findMessage("added.code"));
+  }
+
+  @Test
+  void looksUpMessageSourceEachTimeIfCacheDisabled() {
+    final ProblemProperties.Cache cacheProperties = new ProblemProperties.Cache();
+    cacheProperties.setEnabled(false);
+    new ProblemMessageProvider(this.messageSource, cacheProperties);
+    LocaleContextHolder.setLocale(Locale.ROOT);
+
+    assertNull(ProblemMessageProvider.findMessage("missing.code"));
+    final int lookups = this.lookups.get();
+    assertNull(ProblemMessageProvider.findMessage("missing.code"));
+
+    assertEquals(lookups + 1, this.lookups.get());
+    assertEquals(0, ProblemMessageProvider.negativeCacheStats().requestCount());
+  }
+}
@@ -0,0 +1,145 @@
+package com.ksoot.problem.spring.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.CacheStats;
+import com.ksoot.problem.core.GeneralErrorKey;
+import java.util.Locale;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+
+class ProblemTemplateCacheTest {
+
+  private static final String TYPE = IllegalStateException.class.getName();
+
+  private final StaticMessageSource messageSource = new StaticMessageSource();
+
+  @BeforeEach
+  void setUp() {
+    this.messageSource.addMessage("code." + TYPE, Locale.ROOT, "STATE-001");
+    this.messageSource.addMessage("title." + TYPE, Locale.ROOT, "Invalid state");
+    this.messageSource.addMessage("title." + TYPE, Locale.FRENCH, "Etat invalide");
+    this.messageSource.addMessage("status." + TYPE, Locale.ROOT, "409");
+    new ProblemMessageProvider(this.messageSource);
+    ProblemTemplateCache.clear();
+    LocaleContextHolder.setLocale(Locale.ROOT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+    ProblemTemplateCache.clear();
+  }
+
+  @Test
+  void resolvesTemplateFromMessagesOfExceptionClass() {
+    final ProblemTemplateCache.Template template =
+        ProblemTemplateCache.getTemplate(
+            IllegalStateException.class,
+            GeneralErrorKey.INTERNAL_SERVER_ERROR,
+            HttpStatus.INTERNAL_SERVER_ERROR);
+
+    assertEquals("STATE-001", template.getCode());
+    assertEquals("Invalid state", template.getTitle());
+    assertNull(template.getDetail());
+    assertEquals("500", template.getDefaultCode());
+    assertEquals("Internal Server Error", template.getDefaultTitle());
+    assertEquals("detail." + TYPE, template.getDetailCode());
+  }
+
+  @Test
+  void cachesTemplatePerExceptionClassAndLocale() {
+    final CacheStats before = ProblemTemplateCache.stats();
+
+    final ProblemTemplateCache.Template template = template();
+    assertSame(template, template());
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+    final ProblemTemplateCache.Template french = template();
+
+    final CacheStats stats = ProblemTemplateCache.stats().minus(before);
+    assertEquals(1, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals("Etat invalide", french.getTitle());
+  }
+
+  @Test
+  void resolvesTemplateAgainOnceCleared() {
+    final ProblemTemplateCache.Template template = template();
+    this.messageSource.addMessage("title." + TYPE, Locale.ROOT, "Inconsistent state");
+
+    assertSame(template, template());
+    ProblemTemplateCache.clear();
+    assertEquals("Inconsistent state", template().getTitle());
+  }
+
+  @Test
+  void resolvesStatusOverride() {
+    assertEquals(
+        Optional.of(HttpStatus.CONFLICT),
+        ProblemTemplateCache.getStatusOverride(IllegalStateException.class));
+    assertEquals(
+        Optional.empty(), ProblemTemplateCache.getStatusOverride(IllegalArgumentException.class));
+  }
+
+  @Test
+  void resolvesStatusOverridePerLocale() {
+    this.messageSource.addMessage("status." + TYPE, Locale.GERMAN, "400");
+    LocaleContextHolder.setLocale(Locale.GERMAN);
+
+    assertEquals(Optional.of(HttpStatus.BAD_REQUEST), statusOverride());
+    LocaleContextHolder.setLocale(Locale.ROOT);
+    assertEquals(Optional.of(HttpStatus.CONFLICT), statusOverride());
+  }
+
+  @Test
+  void sharesStatusOverrideOfDefaultLocaleIfNotOverridden() {
+    // As resolved from base bundle by resource bundle message sources
+    this.messageSource.addMessage("status." + TYPE, Locale.FRENCH, "409");
+    final CacheStats before = ProblemTemplateCache.statusStats();
+
+    final Optional<HttpStatus> status = statusOverride();
+    LocaleContextHolder.setLocale(Locale.FRENCH);
+
+    assertSame(status, statusOverride());
+    assertSame(status, statusOverride());
+    final CacheStats stats = ProblemTemplateCache.statusStats().minus(before);
+    assertEquals(2, stats.hitCount());
+    assertEquals(2, stats.missCount());
+  }
+
+  @Test
+  void boundsStatusOverridesByMaxSize() {
+    final ProblemProperties.Cache properties = new ProblemProperties.Cache();
+    properties.setMaxSize(2);
+    new ProblemTemplateCache(properties);
+    try {
+      for (final Locale locale : Locale.getAvailableLocales()) {
+        LocaleContextHolder.setLocale(locale);
+        statusOverride();
+      }
+
+      assertTrue(ProblemTemplateCache.statusStats().evictionCount() > 0);
+    } finally {
+      new ProblemTemplateCache(new ProblemProperties.Cache());
+    }
+  }
+
+  private static Optional<HttpStatus> statusOverride() {
+    return ProblemTemplateCache.getStatusOverride(IllegalStateException.class);
+  }
+
+  private static ProblemTemplateCache.Template template() {
+    return ProblemTemplateCache.getTemplate(
+        IllegalStateException.class,
+        GeneralErrorKey.INTERNAL_SERVER_ERROR,
+        HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+}